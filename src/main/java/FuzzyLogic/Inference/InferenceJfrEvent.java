@@ -0,0 +1,35 @@
+package FuzzyLogic.Inference;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+// Emitted once per evaluate() call of the Mamdani and Sugeno engines
+@Name("FuzzyLogic.Inference")
+@Label("Fuzzy Inference")
+@Category({"Delivery Optimization", "Fuzzy Logic"})
+@Description("One evaluate() call of a fuzzy inference engine")
+@StackTrace(false)
+public class InferenceJfrEvent extends Event {
+
+    @Label("Engine")
+    public String engine;
+
+    @Label("Rule Count")
+    public int ruleCount;
+
+    @Label("Fired Rules")
+    @Description("Rules with a firing strength above zero")
+    public int firedRules;
+
+    @Label("Defuzzification Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long defuzzificationTime;
+
+    @Label("Output")
+    public double output;
+}
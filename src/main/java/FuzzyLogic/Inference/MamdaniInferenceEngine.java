@@ -54,6 +54,10 @@ public class MamdaniInferenceEngine {
     }
 
     public double evaluate() {
+        InferenceJfrEvent jfrEvent = new InferenceJfrEvent();
+        jfrEvent.begin();
+        int firedRules = 0;
+
         System.out.println("\n=== TRUE Mamdani Inference Engine ===");
         System.out.println("Implication: " + implicationOperator.getClass().getSimpleName());
         System.out.println("Aggregation: " + aggregationOperator.getClass().getSimpleName());
@@ -69,6 +73,9 @@ public class MamdaniInferenceEngine {
             FuzzyRule rule = rules.get(i);
             double firingStrength = rule.evaluate(variables);
             FuzzyConsequent consequent = rule.getConsequent();
+            if (firingStrength > 0.0) {
+                firedRules++;
+            }
 
             if (!consequent.isFuzzy()) {
                 throw new IllegalStateException(
@@ -95,6 +102,7 @@ public class MamdaniInferenceEngine {
         // Step 3: Aggregation is done within AggregatedFuzzySet
 
         // Step 4: Defuzzification
+        long defuzzStart = jfrEvent.isEnabled() ? System.nanoTime() : 0L;
         double crispOutput;
         if (defuzzificationMethod == DefuzzificationMethod.CENTROID) {
             crispOutput = aggregatedSet.calculateCentroid();
@@ -105,7 +113,19 @@ public class MamdaniInferenceEngine {
                     defuzzificationMethod);
         }
 
+        long defuzzNanos = jfrEvent.isEnabled() ? System.nanoTime() - defuzzStart : 0L;
+
         System.out.println("[Mamdani] Final crisp output = " + String.format("%.3f", crispOutput));
+
+        jfrEvent.end();
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.engine = "Mamdani";
+            jfrEvent.ruleCount = rules.size();
+            jfrEvent.firedRules = firedRules;
+            jfrEvent.defuzzificationTime = defuzzNanos;
+            jfrEvent.output = crispOutput;
+            jfrEvent.commit();
+        }
         return crispOutput;
     }
 
@@ -17,6 +17,10 @@ public class SugenoInferenceEngine {
     }
 
     public double evaluate() {
+        InferenceJfrEvent jfrEvent = new InferenceJfrEvent();
+        jfrEvent.begin();
+        int firedRules = 0;
+
         System.out.println("\n=== Sugeno Inference Engine (Zero-Order) ===");
 
         double numerator = 0.0;
@@ -26,6 +30,9 @@ public class SugenoInferenceEngine {
             FuzzyRule rule = rules.get(i);
             double firingStrength = rule.evaluate(variables);
             FuzzyConsequent consequent = rule.getConsequent();
+            if (firingStrength > 0.0) {
+                firedRules++;
+            }
 
             double consequentValue;
 
@@ -50,9 +57,22 @@ public class SugenoInferenceEngine {
             denominator += firingStrength;
         }
 
+        // Weighted-average defuzzification
+        long defuzzStart = jfrEvent.isEnabled() ? System.nanoTime() : 0L;
         double crispOutput = (denominator == 0.0) ? 0.0 : (numerator / denominator);
+        long defuzzNanos = jfrEvent.isEnabled() ? System.nanoTime() - defuzzStart : 0L;
         System.out.println("[Sugeno] Final crisp output = " + String.format("%.3f", crispOutput));
 
+        jfrEvent.end();
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.engine = "Sugeno";
+            jfrEvent.ruleCount = rules.size();
+            jfrEvent.firedRules = firedRules;
+            jfrEvent.defuzzificationTime = defuzzNanos;
+            jfrEvent.output = crispOutput;
+            jfrEvent.commit();
+        }
+
         return crispOutput;
     }
 
@@ -0,0 +1,171 @@
+package GeneticAlgorithm.Adaptive;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Crossover.Crossover;
+import GeneticAlgorithm.Mutation.Mutation;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+// Picks the crossover and mutation for each offspring and tunes the rates between generations.
+//   Operators: one UCB bandit per operator kind. Reward = improvement over the better parent per
+//     millisecond of CPU spent producing and evaluating the child.
+//   Mutation rate: 1/5 success rule. More than a fifth of children improving means there is room to
+//     explore, so the rate rises 10%; otherwise it falls 10%. It stays within 10x of the initial rate.
+//   Crossover rate: moves 0.05 towards whichever did better this generation, recombined children
+//     or children copied from a parent.
+public class AdaptiveController {
+
+    private static final double SUCCESS_TARGET = 0.2;
+    private static final double MIN_CROSSOVER_RATE = 0.2;
+    private static final double MAX_CROSSOVER_RATE = 0.95;
+
+    private final List<Crossover> crossovers;
+    private final List<Mutation> mutations;
+    private final UcbBandit crossoverBandit;
+    private final UcbBandit mutationBandit;
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final boolean cpuTimeSupported;
+
+    private double crossoverRate = 0.7;
+    private double mutationRate = 0.01;
+    private double minMutationRate = 0.001;
+    private double maxMutationRate = 0.1;
+
+    private int offspring;
+    private int improved;
+    private int recombinedCount;
+    private int recombinedImproved;
+    private int copiedImproved;
+
+    public AdaptiveController(List<Crossover> crossovers, List<Mutation> mutations) {
+        if (crossovers == null || crossovers.isEmpty()) {
+            throw new IllegalArgumentException("At least one crossover is required");
+        }
+        if (mutations == null || mutations.isEmpty()) {
+            throw new IllegalArgumentException("At least one mutation is required");
+        }
+        this.crossovers = new ArrayList<>(crossovers);
+        this.mutations = new ArrayList<>(mutations);
+        this.crossoverBandit = new UcbBandit(crossovers.size());
+        this.mutationBandit = new UcbBandit(mutations.size());
+        this.cpuTimeSupported = threadBean.isCurrentThreadCpuTimeSupported();
+    }
+
+    // Called by GeneticAlgorithm at the start of a run with its configured rates
+    public void start(double initialCrossoverRate, double initialMutationRate) {
+        this.crossoverRate = Math.max(MIN_CROSSOVER_RATE, Math.min(MAX_CROSSOVER_RATE, initialCrossoverRate));
+        this.mutationRate = initialMutationRate;
+        this.minMutationRate = Math.max(1e-4, initialMutationRate / 10.0);
+        this.maxMutationRate = Math.min(0.5, Math.max(initialMutationRate * 10.0, minMutationRate));
+        resetGenerationCounts();
+    }
+
+    public int selectCrossover() {
+        return crossoverBandit.select();
+    }
+
+    public Crossover getCrossover(int arm) {
+        return crossovers.get(arm);
+    }
+
+    public int selectMutation(Chromosome child) {
+        return mutationBandit.select(arm -> mutations.get(arm).supports(child));
+    }
+
+    public Mutation getMutation(int arm) {
+        return mutations.get(arm);
+    }
+
+    public long cpuTime() {
+        return cpuTimeSupported ? threadBean.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    // One evaluated child. `recombined` is false when crossover passed a parent through unchanged.
+    public void record(int crossoverArm, int mutationArm, Chromosome child, Chromosome parent1, Chromosome parent2,
+                       boolean recombined, long cpuNanos) {
+        Chromosome better = isBetter(parent2, parent1) ? parent2 : parent1;
+        double gain = gain(child, better);
+        double reward = Math.max(0.0, gain) / Math.max(cpuNanos / 1e6, 1e-3);
+        crossoverBandit.update(crossoverArm, reward);
+        mutationBandit.update(mutationArm, reward);
+
+        offspring++;
+        boolean success = gain > 0.0;
+        if (success) {
+            improved++;
+        }
+        if (recombined) {
+            recombinedCount++;
+            if (success) {
+                recombinedImproved++;
+            }
+        } else if (success) {
+            copiedImproved++;
+        }
+    }
+
+    public void endGeneration() {
+        if (offspring == 0) {
+            return;
+        }
+        double successRate = (double) improved / offspring;
+        mutationRate *= successRate > SUCCESS_TARGET ? 1.1 : 0.9;
+        mutationRate = Math.max(minMutationRate, Math.min(maxMutationRate, mutationRate));
+
+        int copied = offspring - recombinedCount;
+        if (recombinedCount > 0 && copied > 0) {
+            double recombinedRate = (double) recombinedImproved / recombinedCount;
+            double copiedRate = (double) copiedImproved / copied;
+            if (recombinedRate > copiedRate) {
+                crossoverRate = Math.min(MAX_CROSSOVER_RATE, crossoverRate + 0.05);
+            } else if (recombinedRate < copiedRate) {
+                crossoverRate = Math.max(MIN_CROSSOVER_RATE, crossoverRate - 0.05);
+            }
+        }
+        resetGenerationCounts();
+    }
+
+    private void resetGenerationCounts() {
+        offspring = 0;
+        improved = 0;
+        recombinedCount = 0;
+        recombinedImproved = 0;
+        copiedImproved = 0;
+    }
+
+    // Fitness difference, with a relative route-time saving (< 1) breaking ties
+    private static double gain(Chromosome child, Chromosome reference) {
+        int referenceTime = Math.max(1, reference.getTotalRouteTime());
+        return (child.getFitness() - reference.getFitness())
+                + (double) (reference.getTotalRouteTime() - child.getTotalRouteTime()) / referenceTime;
+    }
+
+    private static boolean isBetter(Chromosome a, Chromosome b) {
+        return a.getFitness() > b.getFitness()
+                || (a.getFitness() == b.getFitness() && a.getTotalRouteTime() < b.getTotalRouteTime());
+    }
+
+    public double getCrossoverRate() {
+        return crossoverRate;
+    }
+
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    public void printReport() {
+        System.out.println("\nAdaptive operators:");
+        System.out.println(String.format("  Crossover rate: %.3f, mutation rate: %.4f", crossoverRate, mutationRate));
+        for (int i = 0; i < crossovers.size(); i++) {
+            System.out.println(String.format("  %-40s pulls %7d  share %5.1f%%  reward %.3f", crossovers.get(i),
+                    crossoverBandit.getPullCount(i), 100.0 * crossoverBandit.getShare(i), crossoverBandit.getMeanReward(i)));
+        }
+        for (int i = 0; i < mutations.size(); i++) {
+            System.out.println(String.format("  %-40s pulls %7d  share %5.1f%%  reward %.3f", mutations.get(i),
+                    mutationBandit.getPullCount(i), 100.0 * mutationBandit.getShare(i), mutationBandit.getMeanReward(i)));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package GeneticAlgorithm.Adaptive;
+
+import java.util.function.IntPredicate;
+
+// Discounted UCB1 over a fixed set of arms. Past pulls and rewards decay by `discount` on every
+// update, so the bandit follows operators whose usefulness changes as the run converges.
+// Mean rewards are divided by the best arm's mean before adding the exploration term, so the
+// score is the same whatever unit the rewards come in.
+public class UcbBandit {
+
+    private final double[] pulls;
+    private final double[] rewards;
+    private final long[] totalPulls;
+    private final double discount;
+    private final double exploration;
+
+    public UcbBandit(int arms) {
+        this(arms, 0.99, 0.5);
+    }
+
+    public UcbBandit(int arms, double discount, double exploration) {
+        if (arms < 1) {
+            throw new IllegalArgumentException("Bandit needs at least one arm");
+        }
+        if (discount <= 0.0 || discount > 1.0) {
+            throw new IllegalArgumentException("Discount must be in (0, 1]");
+        }
+        this.pulls = new double[arms];
+        this.rewards = new double[arms];
+        this.totalPulls = new long[arms];
+        this.discount = discount;
+        this.exploration = exploration;
+    }
+
+    public int select() {
+        return select(arm -> true);
+    }
+
+    // Best UCB score among allowed arms; an allowed arm that was never pulled goes first
+    public int select(IntPredicate allowed) {
+        double total = 0.0;
+        for (double p : pulls) {
+            total += p;
+        }
+        double logTotal = Math.log(Math.max(total, 1.0));
+        double bestMean = 0.0;
+        for (int arm = 0; arm < pulls.length; arm++) {
+            bestMean = Math.max(bestMean, getMeanReward(arm));
+        }
+
+        int best = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int arm = 0; arm < pulls.length; arm++) {
+            if (!allowed.test(arm)) {
+                continue;
+            }
+            if (totalPulls[arm] == 0) {
+                return arm;
+            }
+            double n = Math.max(pulls[arm], 1e-9);
+            double relative = bestMean > 0.0 ? getMeanReward(arm) / bestMean : 0.0;
+            double score = relative + exploration * Math.sqrt(2.0 * logTotal / n);
+            if (score > bestScore) {
+                bestScore = score;
+                best = arm;
+            }
+        }
+        if (best == -1) {
+            throw new IllegalStateException("No allowed arm to select");
+        }
+        return best;
+    }
+
+    public void update(int arm, double reward) {
+        for (int i = 0; i < pulls.length; i++) {
+            pulls[i] *= discount;
+            rewards[i] *= discount;
+        }
+        pulls[arm] += 1.0;
+        rewards[arm] += Math.max(0.0, reward);
+        totalPulls[arm]++;
+    }
+
+    public int getArmCount() {
+        return pulls.length;
+    }
+
+    public long getPullCount(int arm) {
+        return totalPulls[arm];
+    }
+
+    // Discounted mean reward, in the caller's unit
+    public double getMeanReward(int arm) {
+        return pulls[arm] > 0.0 ? rewards[arm] / pulls[arm] : 0.0;
+    }
+
+    // Share of recent (discounted) pulls each arm got
+    public double getShare(int arm) {
+        double total = 0.0;
+        for (double p : pulls) {
+            total += p;
+        }
+        return total > 0.0 ? pulls[arm] / total : 0.0;
+    }
+}
@@ -0,0 +1,209 @@
+package GeneticAlgorithm.Apis;
+
+import GeneticAlgorithm.GeneticAlgorithm;
+import GeneticAlgorithm.Progress.ProgressEvent;
+import GeneticAlgorithm.Progress.ProgressListener;
+import GeneticAlgorithm.Progress.ProgressRelay;
+import com.google.gson.Gson;
+import spark.Service;
+
+import javax.servlet.ServletOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// HTTP front for running GA jobs:
+//   GET  /jobs             -> status of every submitted job
+//   GET  /jobs/:id         -> status of one job
+//   GET  /jobs/:id/events  -> Server-Sent Events stream of ProgressEvents
+//   POST /jobs/:id/stop    -> ask the job to stop after its current generation
+public class ProgressStreamServer {
+
+    private static final int QUEUE_CAPACITY = 256;
+    private static final long KEEP_ALIVE_MILLIS = 15_000;
+
+    private final Service http;
+    private final Gson gson = new Gson();
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger nextJobId = new AtomicInteger(1);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    public ProgressStreamServer() {
+        this(8081);
+    }
+
+    public ProgressStreamServer(int port) {
+        this.http = Service.ignite().port(port);
+        registerRoutes();
+        http.awaitInitialization();
+    }
+
+    // Run the GA on a background thread and expose its progress; returns the job id
+    public String submit(GeneticAlgorithm ga) {
+        String id = "job_" + nextJobId.getAndIncrement();
+        Job job = new Job(id, ga);
+        // Generations go straight to the relay, but the relay is only completed here, once the job's
+        // status is final; otherwise a stream could send its completed frame while still RUNNING
+        ProgressListener forward = new ProgressListener() {
+            @Override
+            public void onGeneration(ProgressEvent event) {
+                job.relay.onGeneration(event);
+            }
+
+            @Override
+            public void onCompleted(ProgressEvent finalEvent) {
+                job.finalEvent = finalEvent;
+            }
+        };
+        ga.addProgressListener(forward);
+        jobs.put(id, job);
+
+        executor.submit(() -> {
+            try {
+                ga.run();
+            } catch (RuntimeException e) {
+                job.error = e.getMessage();
+            } finally {
+                job.finished = true;
+                ga.removeProgressListener(forward);
+                job.relay.onCompleted(job.finalEvent);
+            }
+        });
+        return id;
+    }
+
+    public void stop() {
+        for (Job job : jobs.values()) {
+            job.ga.requestStop();
+        }
+        executor.shutdown();
+        http.stop();
+    }
+
+    private void registerRoutes() {
+        http.get("/jobs", (req, res) -> {
+            res.type("application/json");
+            List<Map<String, Object>> statuses = new ArrayList<>();
+            for (Job job : jobs.values()) {
+                statuses.add(job.status());
+            }
+            return gson.toJson(statuses);
+        });
+
+        http.get("/jobs/:id", (req, res) -> {
+            Job job = findJob(req.params(":id"));
+            res.type("application/json");
+            return gson.toJson(job.status());
+        });
+
+        http.post("/jobs/:id/stop", (req, res) -> {
+            Job job = findJob(req.params(":id"));
+            job.ga.requestStop();
+            res.type("application/json");
+            return gson.toJson(job.status());
+        });
+
+        http.get("/jobs/:id/events", (req, res) -> {
+            Job job = findJob(req.params(":id"));
+            res.type("text/event-stream");
+            res.header("Cache-Control", "no-cache");
+            res.header("Connection", "keep-alive");
+            res.status(200);
+            streamEvents(job, res.raw().getOutputStream());
+            return "";
+        });
+    }
+
+    // Blocks the HTTP worker thread (never the GA thread) until the job finishes or the client leaves
+    private void streamEvents(Job job, ServletOutputStream out) throws IOException {
+        BlockingQueue<ProgressEvent> queue = job.relay.subscribe(QUEUE_CAPACITY);
+        try {
+            // An event published right after subscribing is both queued and the last event: the
+            // replayed generation is sent once, and queued events up to it are skipped
+            ProgressEvent last = job.relay.getLastEvent();
+            int sentGeneration = -1;
+            if (last != null) {
+                writeEvent(out, "generation", gson.toJson(last));
+                sentGeneration = last.getGeneration();
+            }
+            long lastWrite = System.currentTimeMillis();
+
+            while (true) {
+                ProgressEvent event = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    if (event.getGeneration() <= sentGeneration) {
+                        continue;
+                    }
+                    writeEvent(out, "generation", gson.toJson(event));
+                    sentGeneration = event.getGeneration();
+                    lastWrite = System.currentTimeMillis();
+                } else if (job.relay.isCompleted() && queue.isEmpty()) {
+                    writeEvent(out, "completed", gson.toJson(job.status()));
+                    break;
+                } else if (System.currentTimeMillis() - lastWrite > KEEP_ALIVE_MILLIS) {
+                    out.write(": keep-alive\n\n".getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                    lastWrite = System.currentTimeMillis();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            job.relay.unsubscribe(queue);
+        }
+    }
+
+    private void writeEvent(ServletOutputStream out, String name, String data) throws IOException {
+        String frame = "event: " + name + "\ndata: " + data + "\n\n";
+        out.write(frame.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private Job findJob(String id) {
+        Job job = jobs.get(id);
+        if (job == null) {
+            http.halt(404, "{\"error\":\"Job not found: " + id + "\"}");
+        }
+        return job;
+    }
+
+    private static class Job {
+        final String id;
+        final GeneticAlgorithm ga;
+        final ProgressRelay relay = new ProgressRelay();
+        volatile boolean finished = false;
+        volatile String error;
+        volatile ProgressEvent finalEvent;
+
+        Job(String id, GeneticAlgorithm ga) {
+            this.id = id;
+            this.ga = ga;
+        }
+
+        Map<String, Object> status() {
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("id", id);
+            status.put("state", error != null ? "FAILED" : finished ? "FINISHED" :
+                    ga.isStopRequested() ? "STOPPING" : "RUNNING");
+            ProgressEvent last = relay.getLastEvent();
+            if (last != null) {
+                status.put("generation", last.getGeneration());
+                status.put("bestSoFar", last.getBestSoFar());
+                status.put("evaluations", last.getEvaluations());
+            }
+            if (error != null) {
+                status.put("error", error);
+            }
+            return status;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package GeneticAlgorithm.Archive;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.UnaryOperator;
+
+// JSON file of elite tours from previous runs, used to warm-start the next run on a similar stop set.
+// Tours are stored as external stop ids, so they survive stops being added, dropped or renumbered.
+public class EliteArchive {
+
+    private static final int MAX_INSTANCES_PER_DEPOT = 5;
+
+    private final String filePath;
+    private final int topK;
+    private final Gson gson;
+
+    public EliteArchive() {
+        this("elite_archive.json", 10);
+    }
+
+    public EliteArchive(String fileName, int topK) {
+        if (topK < 1) {
+            throw new IllegalArgumentException("Top-k must be at least 1");
+        }
+        this.filePath = fileName;
+        this.topK = topK;
+        this.gson = new GsonBuilder().setPrettyPrinting().create();
+    }
+
+    // Fingerprint of an instance: the depot plus its (unordered) set of stop ids
+    public static String fingerprint(String depotId, List<String> stopIds) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(depotId.getBytes(StandardCharsets.UTF_8));
+            for (String id : new TreeSet<>(stopIds)) {
+                digest.update((byte) 0);
+                digest.update(id.getBytes(StandardCharsets.UTF_8));
+            }
+            StringBuilder sb = new StringBuilder();
+            byte[] hash = digest.digest();
+            for (int i = 0; i < 8; i++) {
+                sb.append(String.format("%02x", hash[i]));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // Archived tours for the closest known instance of this depot, best first. An exact fingerprint
+    // match wins; otherwise the instance sharing the most stops is used. Tours may contain stops that
+    // no longer exist and miss new ones - the caller maps them onto the current stop set.
+    public List<List<String>> load(String depotId, List<String> stopIds) {
+        String fingerprint = fingerprint(depotId, stopIds);
+        Set<String> current = new HashSet<>(stopIds);
+
+        ArchivedInstance best = null;
+        double bestOverlap = 0.0;
+        for (ArchivedInstance instance : readInstances()) {
+            if (!instance.depotId.equals(depotId)) {
+                continue;
+            }
+            if (instance.fingerprint.equals(fingerprint)) {
+                best = instance;
+                break;
+            }
+            double overlap = jaccard(current, instance.stopIds);
+            if (overlap > bestOverlap) {
+                bestOverlap = overlap;
+                best = instance;
+            }
+        }
+
+        List<List<String>> tours = new ArrayList<>();
+        if (best != null) {
+            for (ArchivedTour tour : best.tours) {
+                tours.add(new ArrayList<>(tour.stops));
+            }
+        }
+        return tours;
+    }
+
+    // Merge new tours into the entry for this exact instance, keep the top-k and write the file.
+    // The fingerprint does not cover travel times, so tours already in the archive are first re-scored
+    // with rescore (null drops a tour); a tour scored on an easier matrix cannot then stay on top.
+    public void record(String depotId, List<String> stopIds, List<ArchivedTour> tours,
+                       UnaryOperator<ArchivedTour> rescore) {
+        if (rescore == null) {
+            throw new IllegalArgumentException("Rescore function cannot be null");
+        }
+        String fingerprint = fingerprint(depotId, stopIds);
+        List<ArchivedInstance> instances = readInstances();
+
+        ArchivedInstance instance = null;
+        for (ArchivedInstance candidate : instances) {
+            if (candidate.fingerprint.equals(fingerprint) && candidate.depotId.equals(depotId)) {
+                instance = candidate;
+                break;
+            }
+        }
+        if (instance == null) {
+            instance = new ArchivedInstance();
+            instance.depotId = depotId;
+            instance.fingerprint = fingerprint;
+            instance.stopIds = new ArrayList<>(stopIds);
+            instance.tours = new ArrayList<>();
+            instances.add(instance);
+        }
+
+        Set<List<String>> seen = new HashSet<>();
+        List<ArchivedTour> merged = new ArrayList<>();
+        List<ArchivedTour> all = new ArrayList<>();
+        for (ArchivedTour archived : instance.tours) {
+            ArchivedTour rescored = rescore.apply(archived);
+            if (rescored != null) {
+                all.add(rescored);
+            }
+        }
+        all.addAll(tours);
+        all.sort(Comparator.comparingDouble((ArchivedTour t) -> -t.fitness).thenComparingInt(t -> t.routeTime));
+        for (ArchivedTour tour : all) {
+            if (merged.size() >= topK) {
+                break;
+            }
+            if (seen.add(tour.stops)) {
+                merged.add(tour);
+            }
+        }
+        instance.tours = merged;
+        instance.updatedAt = System.currentTimeMillis();
+
+        pruneDepot(instances, depotId);
+        writeInstances(instances);
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    // Keep only the most recently updated instances of each depot
+    private void pruneDepot(List<ArchivedInstance> instances, String depotId) {
+        List<ArchivedInstance> depotInstances = new ArrayList<>();
+        for (ArchivedInstance instance : instances) {
+            if (instance.depotId.equals(depotId)) {
+                depotInstances.add(instance);
+            }
+        }
+        if (depotInstances.size() <= MAX_INSTANCES_PER_DEPOT) {
+            return;
+        }
+        depotInstances.sort(Comparator.comparingLong((ArchivedInstance i) -> i.updatedAt).reversed());
+        instances.removeAll(depotInstances.subList(MAX_INSTANCES_PER_DEPOT, depotInstances.size()));
+    }
+
+    private static double jaccard(Set<String> current, List<String> archived) {
+        int common = 0;
+        for (String id : archived) {
+            if (current.contains(id)) {
+                common++;
+            }
+        }
+        int union = current.size() + archived.size() - common;
+        return union == 0 ? 0.0 : (double) common / union;
+    }
+
+    private List<ArchivedInstance> readInstances() {
+        try {
+            Path path = Paths.get(filePath);
+            if (!Files.exists(path)) {
+                return new ArrayList<>();
+            }
+
+            String content = Files.readString(path);
+            if (content.trim().isEmpty()) {
+                return new ArrayList<>();
+            }
+
+            Type listType = new TypeToken<List<ArchivedInstance>>() {
+            }.getType();
+            List<ArchivedInstance> instances = gson.fromJson(content, listType);
+            return instances != null ? instances : new ArrayList<>();
+
+        } catch (IOException e) {
+            System.err.println("Error reading elite archive: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    // Written to a temporary file next to the archive and moved over it, so a failed write never
+    // leaves a truncated archive behind
+    private void writeInstances(List<ArchivedInstance> instances) {
+        Path path = Paths.get(filePath).toAbsolutePath();
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            Files.writeString(temp, gson.toJson(instances));
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("Error writing elite archive: " + e.getMessage());
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // Nothing more to do; the archive itself is untouched
+                }
+            }
+        }
+    }
+
+    // One archived tour, in visiting order
+    public static class ArchivedTour {
+        public List<String> stops;
+        public double fitness;
+        public int routeTime;
+
+        public ArchivedTour() {
+        }
+
+        public ArchivedTour(List<String> stops, double fitness, int routeTime) {
+            this.stops = stops;
+            this.fitness = fitness;
+            this.routeTime = routeTime;
+        }
+    }
+
+    // Top tours for one (depot, stop set) instance
+    public static class ArchivedInstance {
+        public String depotId;
+        public String fingerprint;
+        public List<String> stopIds;
+        public List<ArchivedTour> tours;
+        public long updatedAt;
+    }
+}
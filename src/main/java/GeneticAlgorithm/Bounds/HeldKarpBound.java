@@ -0,0 +1,164 @@
+package GeneticAlgorithm.Bounds;
+
+import GeneticAlgorithm.Fitness.FitnessEvaluator;
+
+import java.util.Arrays;
+
+// Held-Karp lower bound on the route time of any path visiting a set of nodes.
+// The open path becomes a cycle through a dummy node joined to every node at cost 0; a 1-tree on
+// that graph is an MST over the real nodes plus the two cheapest dummy edges. Lagrangian penalties
+// on the node degrees are tuned by subgradient ascent. Travel times may be asymmetric, so the
+// relaxation uses min(d(i, j), d(j, i)), which never exceeds the cost of a directed path.
+// Several step-size schedules run in parallel and the best bound wins.
+public class HeldKarpBound {
+
+    private static final double[] STEP_SCALES = {2.0, 1.0, 0.5, 0.25};
+    private static final double MIN_STEP_SCALE = 1e-4;
+
+    private final int iterations;
+
+    public HeldKarpBound() {
+        this(500);
+    }
+
+    public HeldKarpBound(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Iterations must be at least 1");
+        }
+        this.iterations = iterations;
+    }
+
+    // Lower bound on the route time of any path through all of `nodes`, rounded up (times are integers)
+    public int compute(FitnessEvaluator evaluator, int[] nodes) {
+        int n = nodes.length;
+        if (n < 2) {
+            return 0;
+        }
+        int[] cost = new int[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int c = Math.min(evaluator.getDistance(nodes[i], nodes[j]), evaluator.getDistance(nodes[j], nodes[i]));
+                cost[i * n + j] = c;
+                cost[j * n + i] = c;
+            }
+        }
+        double upper = nearestNeighbourPath(cost, n);
+        double best = Arrays.stream(STEP_SCALES).parallel()
+                .map(scale -> subgradient(cost, n, upper, scale))
+                .max()
+                .orElse(0.0);
+        return (int) Math.ceil(best - 1e-6);
+    }
+
+    private double subgradient(int[] cost, int n, double upper, double scale) {
+        double[] pi = new double[n];
+        int[] degree = new int[n];
+        double best = Double.NEGATIVE_INFINITY;
+        int patience = Math.max(10, Math.min(50, n / 2));
+        int sinceImprovement = 0;
+
+        for (int iter = 0; iter < iterations && scale > MIN_STEP_SCALE; iter++) {
+            double bound = oneTree(cost, n, pi, degree);
+            if (bound > best + 1e-9) {
+                best = bound;
+                sinceImprovement = 0;
+            } else if (++sinceImprovement >= patience) {
+                scale /= 2.0;
+                sinceImprovement = 0;
+            }
+
+            long norm = 0;
+            for (int i = 0; i < n; i++) {
+                int g = degree[i] - 2;
+                norm += (long) g * g;
+            }
+            // Every node has degree 2: the 1-tree is a path, so the bound is exact
+            if (norm == 0 || upper - bound < 1e-9) {
+                break;
+            }
+            double step = scale * (upper - bound) / norm;
+            for (int i = 0; i < n; i++) {
+                pi[i] += step * (degree[i] - 2);
+            }
+        }
+        return best;
+    }
+
+    // Cost of the minimum 1-tree under penalties pi (dense Prim), minus 2 * sum(pi). Fills degree.
+    private static double oneTree(int[] cost, int n, double[] pi, int[] degree) {
+        double[] key = new double[n];
+        int[] parent = new int[n];
+        boolean[] inTree = new boolean[n];
+        Arrays.fill(key, Double.POSITIVE_INFINITY);
+        Arrays.fill(degree, 0);
+        key[0] = 0.0;
+        parent[0] = -1;
+
+        double total = 0.0;
+        for (int added = 0; added < n; added++) {
+            int u = -1;
+            for (int v = 0; v < n; v++) {
+                if (!inTree[v] && (u == -1 || key[v] < key[u])) {
+                    u = v;
+                }
+            }
+            inTree[u] = true;
+            total += key[u];
+            if (parent[u] >= 0) {
+                degree[u]++;
+                degree[parent[u]]++;
+            }
+            int row = u * n;
+            for (int v = 0; v < n; v++) {
+                if (!inTree[v]) {
+                    double w = cost[row + v] + pi[u] + pi[v];
+                    if (w < key[v]) {
+                        key[v] = w;
+                        parent[v] = u;
+                    }
+                }
+            }
+        }
+
+        // The dummy node's edges cost 0 + pi, so it attaches to the two smallest penalties
+        int first = -1;
+        int second = -1;
+        for (int v = 0; v < n; v++) {
+            if (first == -1 || pi[v] < pi[first]) {
+                second = first;
+                first = v;
+            } else if (second == -1 || pi[v] < pi[second]) {
+                second = v;
+            }
+        }
+        degree[first]++;
+        degree[second]++;
+        total += pi[first] + pi[second];
+
+        double penalties = 0.0;
+        for (double p : pi) {
+            penalties += p;
+        }
+        return total - 2.0 * penalties;
+    }
+
+    // Length of a nearest-neighbour path from node 0, used as the target of the step size
+    private static double nearestNeighbourPath(int[] cost, int n) {
+        boolean[] visited = new boolean[n];
+        int current = 0;
+        visited[0] = true;
+        long length = 0;
+        for (int step = 1; step < n; step++) {
+            int next = -1;
+            for (int v = 0; v < n; v++) {
+                if (!visited[v] && (next == -1 || cost[current * n + v] < cost[current * n + next])) {
+                    next = v;
+                }
+            }
+            length += cost[current * n + next];
+            visited[next] = true;
+            current = next;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,121 @@
+package GeneticAlgorithm.Bounds;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Fitness.FitnessEvaluator;
+
+import java.util.Arrays;
+
+// Upper bound on FitnessEvaluator's objective for one stop set, from two independent bounds:
+//   on-time deliveries: a path reaching k + 1 stops uses k edges leaving distinct stops, so it takes at
+//     least the k smallest "cheapest way out" times; the largest k that still fits the time constraint
+//     caps the count.
+//   route time: HeldKarpBound.
+// The gap of a solution is bound - its exact (unrounded) fitness; 0 proves the solution optimal.
+public class ObjectiveBound {
+
+    private static final double EPSILON = 1e-9;
+
+    private final int routeTimeLowerBound;
+    private final int maxOnTimeDeliveries;
+    private final double fitnessUpperBound;
+    private final long matrixVersion;
+    private final int stopCount;
+
+    private ObjectiveBound(int routeTimeLowerBound, int maxOnTimeDeliveries, double fitnessUpperBound,
+                           long matrixVersion, int stopCount) {
+        this.routeTimeLowerBound = routeTimeLowerBound;
+        this.maxOnTimeDeliveries = maxOnTimeDeliveries;
+        this.fitnessUpperBound = fitnessUpperBound;
+        this.matrixVersion = matrixVersion;
+        this.stopCount = stopCount;
+    }
+
+    // Bound for tours over the labels firstLabel .. firstLabel + stopCount - 1
+    public static ObjectiveBound compute(FitnessEvaluator evaluator, int firstLabel, int stopCount) {
+        return compute(evaluator, firstLabel, stopCount, new HeldKarpBound());
+    }
+
+    public static ObjectiveBound compute(FitnessEvaluator evaluator, int firstLabel, int stopCount, HeldKarpBound heldKarp) {
+        if (stopCount < 1) {
+            throw new IllegalArgumentException("Stop count must be at least 1");
+        }
+        long version = evaluator.getMatrixVersion();
+        int[] nodes = new int[stopCount];
+        for (int i = 0; i < stopCount; i++) {
+            nodes[i] = firstLabel + i;
+        }
+
+        int routeLowerBound = heldKarp.compute(evaluator, nodes);
+        int maxOnTime = maxOnTimeDeliveries(evaluator, nodes, routeLowerBound);
+        double upperBound = evaluator.score(maxOnTime, routeLowerBound);
+        return new ObjectiveBound(routeLowerBound, maxOnTime, upperBound, version, stopCount);
+    }
+
+    private static int maxOnTimeDeliveries(FitnessEvaluator evaluator, int[] nodes, int routeLowerBound) {
+        int n = nodes.length;
+        int limit = evaluator.getTimeConstraint();
+        if (routeLowerBound <= limit) {
+            // Nothing cheaper to prove: a tour within the bound could deliver everything on time
+            return n;
+        }
+        long[] cheapestOut = new long[n];
+        for (int i = 0; i < n; i++) {
+            long min = Long.MAX_VALUE;
+            for (int j = 0; j < n; j++) {
+                if (i != j) {
+                    min = Math.min(min, evaluator.getDistance(nodes[i], nodes[j]));
+                }
+            }
+            cheapestOut[i] = min;
+        }
+        Arrays.sort(cheapestOut);
+
+        // The path's last stop has no outgoing edge, so only n - 1 of them can be used
+        int onTime = 1;
+        long elapsed = 0;
+        for (int k = 0; k < n - 1; k++) {
+            elapsed += cheapestOut[k];
+            if (elapsed > limit) {
+                break;
+            }
+            onTime++;
+        }
+        return onTime;
+    }
+
+    // Exact fitness of a solution; Chromosome.getFitness() is rounded to an int
+    public static double exactFitness(FitnessEvaluator evaluator, Chromosome chromosome) {
+        return evaluator.score(evaluator.calculateOnTimeDeliveries(chromosome), chromosome.getTotalRouteTime());
+    }
+
+    public double gap(FitnessEvaluator evaluator, Chromosome chromosome) {
+        return Math.max(0.0, fitnessUpperBound - exactFitness(evaluator, chromosome));
+    }
+
+    public boolean isOptimal(FitnessEvaluator evaluator, Chromosome chromosome) {
+        return fitnessUpperBound - exactFitness(evaluator, chromosome) <= EPSILON;
+    }
+
+    // False once stops were added or removed after the bound was computed
+    public boolean isValidFor(FitnessEvaluator evaluator, int stopCount) {
+        return evaluator.getMatrixVersion() == matrixVersion && this.stopCount == stopCount;
+    }
+
+    public int getRouteTimeLowerBound() {
+        return routeTimeLowerBound;
+    }
+
+    public int getMaxOnTimeDeliveries() {
+        return maxOnTimeDeliveries;
+    }
+
+    public double getFitnessUpperBound() {
+        return fitnessUpperBound;
+    }
+
+    @Override
+    public String toString() {
+        return "ObjectiveBound{fitness <= " + String.format("%.2f", fitnessUpperBound) +
+                ", route time >= " + routeTimeLowerBound + ", on-time <= " + maxOnTimeDeliveries + "}";
+    }
+}
@@ -1,9 +1,11 @@
 package GeneticAlgorithm;
 
 import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Diversity.DiversityResponse;
 import GeneticAlgorithm.Fitness.*;
 import GeneticAlgorithm.Selection.*;
 import GeneticAlgorithm.Replacement.*;
+import GeneticAlgorithm.Progress.ConsoleProgressListener;
 
 import java.util.ArrayList;
 import java.util.Random;
@@ -49,6 +51,8 @@ public class CaseStudyDemo {
         FitnessEvaluator.getInstance(distanceMatrix, timeConstraint);
         
         FitnessEvaluator fitnessFunction = FitnessEvaluator.getInstance();
+        // Converged populations are full of repeated tours; score each one once
+        fitnessFunction.setTranspositionTable(new TranspositionTable());
         
         // ==================== Configure Genetic Algorithm ====================
         
@@ -64,10 +68,17 @@ public class CaseStudyDemo {
         ga_engine.setCrossoverRate(0.7);
         ga_engine.setMutationRate(0.02);
         ga_engine.setGenerations(100);
+        // 8 stops is below the default exact-solver threshold; this demo is about the GA, so always evolve
+        ga_engine.setExactSolverThreshold(0);
         
         // Customize selection and replacement strategies
         ga_engine.setSelectionMethod(new TournamentSelection(3));
-        ga_engine.setReplacementStrategy(new ElitistReplacement(2));
+        ga_engine.setReplacementStrategy(new ElitistReplacement(2, true));
+        ga_engine.setEliteCount(2);
+        ga_engine.setDiversityControl(0.15, DiversityResponse.RESTART);
+        
+        // Print progress every 10 generations
+        ga_engine.addProgressListener(new ConsoleProgressListener(10));
         
         System.out.println("GA Configuration:");
         System.out.println("  Population Size: " + ga_engine.getPopulationSize());
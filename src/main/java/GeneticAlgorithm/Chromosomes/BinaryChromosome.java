@@ -2,16 +2,20 @@ package GeneticAlgorithm.Chromosomes;
 
 
 import GeneticAlgorithm.Fitness.FitnessEvaluator;
+import GeneticAlgorithm.Helpers.RandomSource;
+import GeneticAlgorithm.Profiling.GaCounters;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class BinaryChromosome implements Chromosome {
     private List<List<Boolean>> genes;
     private Integer fitness;
-    private static final Random random = new Random();
+    private int routeTime;
+    private boolean fitnessValid = false;
+    private boolean routeTimeValid = false;
     FitnessEvaluator evaluator =   FitnessEvaluator.getInstance();
 
     //Constructors
@@ -60,16 +64,22 @@ public class BinaryChromosome implements Chromosome {
         for (int i = 0; i < numberOfGenes; i++) {
             orderIndices.add(Integer.valueOf(i));
         }
-        Collections.shuffle(orderIndices, random);
+        // Fisher-Yates on RandomSource, so seeded runs are reproducible
+        RandomGenerator random = RandomSource.get();
+        for (int i = orderIndices.size() - 1; i > 0; i--) {
+            Collections.swap(orderIndices, i, random.nextInt(i + 1));
+        }
 
         for (int position = 0; position < numberOfGenes; position++) {
             int orderIndex = orderIndices.get(position).intValue();
             genes.get(orderIndex).set(position, Boolean.valueOf(true));
         }
+        invalidate();
     }
 
     @Override
     public void mutateMethod1(double probability) {
+        RandomGenerator random = RandomSource.get();
         if (random.nextDouble() > probability) {
             return;
         }
@@ -98,6 +108,7 @@ public class BinaryChromosome implements Chromosome {
 
             genes.get(order2).set(pos2, false);
             genes.get(order2).set(pos1, true);
+            invalidate();
         }
     }
 
@@ -116,21 +127,41 @@ public class BinaryChromosome implements Chromosome {
             }
             this.genes.add(newRow);
         }
+        invalidate();
     }
 
     public int getFitness() {
-        return (int) evaluator.evaluate(this);
+        if (!fitnessValid) {
+            fitness = (int) evaluator.evaluate(this);
+            fitnessValid = true;
+        }
+        return fitness;
     }
 
     @Override
     public Chromosome clone() {
+        GaCounters.recordClone();
         BinaryChromosome clone = new BinaryChromosome(this.genes);
+        clone.fitness = this.fitness;
+        clone.fitnessValid = this.fitnessValid;
+        clone.routeTime = this.routeTime;
+        clone.routeTimeValid = this.routeTimeValid;
         return clone;
     }
 
     @Override
     public int getTotalRouteTime() {
-        return (int) Math.floor(evaluator.calculateTotalRouteTime(this));
+        if (!routeTimeValid) {
+            routeTime = (int) Math.floor(evaluator.calculateTotalRouteTime(this));
+            routeTimeValid = true;
+        }
+        return routeTime;
+    }
+
+    @Override
+    public void invalidate() {
+        fitnessValid = false;
+        routeTimeValid = false;
     }
 
 
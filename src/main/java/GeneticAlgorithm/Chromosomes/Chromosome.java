@@ -1,5 +1,7 @@
 package GeneticAlgorithm.Chromosomes;
 
+import GeneticAlgorithm.Fitness.ZobristHash;
+
 import java.util.List;
 
 public interface Chromosome {
@@ -10,4 +12,13 @@ public interface Chromosome {
     Chromosome clone();
     int getTotalRouteTime();
     String printGenes();
+
+    // Drops the cached fitness and route time, so the next read re-evaluates; for when the evaluator's
+    // objective changed under an existing chromosome
+    void invalidate();
+
+    // Hash of the delivery sequence, used to recognise tours that were already evaluated
+    default long sequenceHash() {
+        return ZobristHash.hash(getDeliverySequence());
+    }
 }
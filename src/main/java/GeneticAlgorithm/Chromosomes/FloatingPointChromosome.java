@@ -2,51 +2,96 @@ package GeneticAlgorithm.Chromosomes;
 
 import GeneticAlgorithm.Fitness.FitnessEvaluator;
 import GeneticAlgorithm.Helpers.Pair;
+import GeneticAlgorithm.Helpers.RandomSource;
+import GeneticAlgorithm.Profiling.GaCounters;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class FloatingPointChromosome implements Chromosome {
     private List<Double> genes;
     private final FitnessEvaluator evaluator = FitnessEvaluator.getInstance();
-    private final Random rand = new Random();
+
+    // Cached results, cleared whenever the genes change
+    private int fitness;
+    private int routeTime;
+    private boolean fitnessValid = false;
+    private boolean routeTimeValid = false;
 
     public FloatingPointChromosome(List<Double> genes) {
         this.genes = new ArrayList<>(genes);
     }
 
+    private FloatingPointChromosome(FloatingPointChromosome other) {
+        this.genes = new ArrayList<>(other.genes);
+        this.fitness = other.fitness;
+        this.fitnessValid = other.fitnessValid;
+        this.routeTime = other.routeTime;
+        this.routeTimeValid = other.routeTimeValid;
+    }
+
     public FloatingPointChromosome() {
         this.genes = new ArrayList<>();
     }
 
     @Override
     public void mutateMethod1(double probability) {
-        for (int i = 0; i < genes.size(); i++) {
-            uniformMutation(i, probability);
+        if (probability <= 0.0) {
+            return;
+        }
+        // Jump straight to the next mutated gene instead of flipping a coin per gene
+        RandomGenerator rand = RandomSource.get();
+        double logOneMinusP = Math.log1p(-probability);
+        long idx = RandomSource.nextGap(rand, logOneMinusP);
+        while (idx < genes.size()) {
+            uniformMutation((int) idx, rand);
+            idx += 1L + RandomSource.nextGap(rand, logOneMinusP);
         }
     }
 
     public void mutateMethod2(double probability,int currentGen, int maxGen) {
-        for (int i = 0; i < genes.size(); i++) {
-            nonUniformMutation(i, probability, currentGen, maxGen);
+        if (probability <= 0.0) {
+            return;
+        }
+        RandomGenerator rand = RandomSource.get();
+        double logOneMinusP = Math.log1p(-probability);
+        long idx = RandomSource.nextGap(rand, logOneMinusP);
+        while (idx < genes.size()) {
+            nonUniformMutation((int) idx, rand, currentGen, maxGen);
+            idx += 1L + RandomSource.nextGap(rand, logOneMinusP);
         }
     }
 
     @Override
     public int getFitness() {
-        return (int) evaluator.evaluate(this);
+        if (!fitnessValid) {
+            fitness = (int) evaluator.evaluate(this);
+            fitnessValid = true;
+        }
+        return fitness;
     }
 
     @Override
     public Chromosome clone() {
-        return new FloatingPointChromosome(this.genes);
+        GaCounters.recordClone();
+        return new FloatingPointChromosome(this);
     }
 
     @Override
     public int getTotalRouteTime() {
-        return evaluator.calculateTotalRouteTime(this);
+        if (!routeTimeValid) {
+            routeTime = evaluator.calculateTotalRouteTime(this);
+            routeTimeValid = true;
+        }
+        return routeTime;
+    }
+
+    @Override
+    public void invalidate() {
+        fitnessValid = false;
+        routeTimeValid = false;
     }
 
     @Override
@@ -54,9 +99,11 @@ public class FloatingPointChromosome implements Chromosome {
         if (genes == null) {
             genes = new ArrayList<>();
         }
+        RandomGenerator rand = RandomSource.get();
         for (int i = 0; i < numberOfGenes; i++) {
             genes.add(rand.nextDouble());
         }
+        invalidate();
     }
 
     @Override
@@ -75,64 +122,62 @@ public class FloatingPointChromosome implements Chromosome {
 
         return seq;
     }
-    private void uniformMutation(int idx, double probability) {
-        if (rand.nextDouble() < probability) {
-            double gene = genes.get(idx);
-            double LB = 0.0;
-            double UB = 1.0;
-
-            // Generate random r11 ∈ [0, 1]
-            double r11 = rand.nextDouble();
-
-            double delta;
-            boolean moveLeft;
-
-            if (r11 <= 0.5) {
-                delta = gene - LB;  // ΔL
-                moveLeft = true;
-            } else {
-                delta = UB - gene;  // ΔU
-                moveLeft = false;
-            }
-
-            // Generate r12 ∈ [0, Δ]
-            double r12 = rand.nextDouble() * delta;
-
-            if (moveLeft) {
-                gene -= r12;
-            } else {
-                gene += r12;
-            }
-
-            // keep it between LB, UB
-            gene = Math.max(LB, Math.min(UB, gene));
-
-            genes.set(idx, gene);
+    private void uniformMutation(int idx, RandomGenerator rand) {
+        double gene = genes.get(idx);
+        double LB = 0.0;
+        double UB = 1.0;
+
+        // Generate random r11 ∈ [0, 1]
+        double r11 = rand.nextDouble();
+
+        double delta;
+        boolean moveLeft;
+
+        if (r11 <= 0.5) {
+            delta = gene - LB;  // ΔL
+            moveLeft = true;
+        } else {
+            delta = UB - gene;  // ΔU
+            moveLeft = false;
         }
+
+        // Generate r12 ∈ [0, Δ]
+        double r12 = rand.nextDouble() * delta;
+
+        if (moveLeft) {
+            gene -= r12;
+        } else {
+            gene += r12;
+        }
+
+        // keep it between LB, UB
+        gene = Math.max(LB, Math.min(UB, gene));
+
+        genes.set(idx, gene);
+        invalidate();
     }
 
-    private void nonUniformMutation(int idx, double probability, int currentGen, int maxGen) {
-        if (rand.nextDouble() < probability) {
-            double gene = genes.get(idx);
-            double a = 0.0;
-            double b = 1.0;
-            double r = rand.nextDouble();
-            double bFactor = 5.0;
-            double delta;
-
-            if (rand.nextBoolean()) {
-                double y = b - gene;
-                delta = y * (1 - Math.pow(r, Math.pow(1.0 - (double) currentGen / maxGen, bFactor)));
-                gene += delta;
-            } else {
-                double y = gene - a;
-                delta = y * (1 - Math.pow(r, Math.pow(1.0 - (double) currentGen / maxGen, bFactor)));
-                gene -= delta;
-            }
-
-            gene = Math.max(a, Math.min(b, gene));
-            genes.set(idx, gene);
+    private void nonUniformMutation(int idx, RandomGenerator rand, int currentGen, int maxGen) {
+        double gene = genes.get(idx);
+        double a = 0.0;
+        double b = 1.0;
+        double r = rand.nextDouble();
+        double bFactor = 5.0;
+        double delta;
+
+        if (rand.nextBoolean()) {
+            double y = b - gene;
+            delta = y * (1 - Math.pow(r, Math.pow(1.0 - (double) currentGen / maxGen, bFactor)));
+            gene += delta;
+        } else {
+            double y = gene - a;
+            delta = y * (1 - Math.pow(r, Math.pow(1.0 - (double) currentGen / maxGen, bFactor)));
+            gene -= delta;
         }
+
+        gene = Math.max(a, Math.min(b, gene));
+        genes.set(idx, gene);
+        invalidate();
     }
 
     public List<Double> getGenes() {
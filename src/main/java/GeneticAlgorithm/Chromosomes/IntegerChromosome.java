@@ -1,17 +1,29 @@
 package GeneticAlgorithm.Chromosomes;
 
 import GeneticAlgorithm.Fitness.FitnessEvaluator;
+import GeneticAlgorithm.Fitness.ZobristHash;
+import GeneticAlgorithm.Helpers.RandomSource;
+import GeneticAlgorithm.Profiling.GaCounters;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class IntegerChromosome implements Chromosome {
     private List<Integer> genes;
-    private static final Random rand = new Random();
     private FitnessEvaluator fitnessEvaluator = FitnessEvaluator.getInstance();
 
+    // Cached results, cleared whenever the genes change
+    private int fitness;
+    private int routeTime;
+    private boolean fitnessValid = false;
+    private boolean routeTimeValid = false;
+
+    // Zobrist hash of genes, kept up to date through swaps
+    private long hash;
+    private boolean hashValid = false;
+
     public IntegerChromosome(List<Integer> genes) {
         this.genes = new ArrayList<>(genes);
     }
@@ -23,10 +35,17 @@ public class IntegerChromosome implements Chromosome {
     public IntegerChromosome(IntegerChromosome other) {
         this.genes = new ArrayList<>(other.genes); // deep copy
         this.fitnessEvaluator = FitnessEvaluator.getInstance();
+        this.fitness = other.fitness;
+        this.fitnessValid = other.fitnessValid;
+        this.routeTime = other.routeTime;
+        this.routeTimeValid = other.routeTimeValid;
+        this.hash = other.hash;
+        this.hashValid = other.hashValid;
     }
 
     @Override
     public void generateGenes(int numberOfGenes) {
+        RandomGenerator rand = RandomSource.get();
         genes = new ArrayList<>();
         for (int i = 0; i < numberOfGenes; i++) {
             genes.add(i + 1);
@@ -37,6 +56,8 @@ public class IntegerChromosome implements Chromosome {
             int second = rand.nextInt(genes.size());
             Collections.swap(genes, first, second);
         }
+        invalidate();
+        hashValid = false;
     }
 
     @Override
@@ -46,38 +67,82 @@ public class IntegerChromosome implements Chromosome {
 
     @Override
     public void mutateMethod1(double probability) {
-        for (int i = 0; i < genes.size(); i++) {
-            mutateBySwapping(i, probability);
+        int size = genes.size();
+        if (probability <= 0.0 || size < 2) {
+            return;
+        }
+        // Same distribution as flipping a coin per gene, but costs O(expected mutations) RNG draws
+        RandomGenerator rand = RandomSource.get();
+        double logOneMinusP = Math.log1p(-probability);
+        long idx = RandomSource.nextGap(rand, logOneMinusP);
+        while (idx < size) {
+            swapWithRandom((int) idx, rand);
+            idx += 1L + RandomSource.nextGap(rand, logOneMinusP);
         }
     }
 
     @Override
     public int getFitness() {
-        return (int) fitnessEvaluator.evaluate(this);
+        if (!fitnessValid) {
+            fitness = (int) fitnessEvaluator.evaluate(this);
+            fitnessValid = true;
+        }
+        return fitness;
     }
 
     @Override
     public Chromosome clone() {
+        GaCounters.recordClone();
         return new IntegerChromosome(this);
     }
 
     @Override
     public int getTotalRouteTime() {
-        return fitnessEvaluator.calculateTotalRouteTime(this);
+        if (!routeTimeValid) {
+            routeTime = fitnessEvaluator.calculateTotalRouteTime(this);
+            routeTimeValid = true;
+        }
+        return routeTime;
+    }
+
+    @Override
+    public long sequenceHash() {
+        if (!hashValid) {
+            hash = ZobristHash.hash(genes);
+            hashValid = true;
+        }
+        return hash;
+    }
+
+    @Override
+    public void invalidate() {
+        fitnessValid = false;
+        routeTimeValid = false;
     }
 
     public void mutateBySwapping(int idx, double probability) {
+        RandomGenerator rand = RandomSource.get();
         if (rand.nextDouble() < probability && genes.size() > 1) {
-            int second = rand.nextInt(genes.size());
-            Collections.swap(genes, idx, second);
+            swapWithRandom(idx, rand);
+        }
+    }
+
+    private void swapWithRandom(int idx, RandomGenerator rand) {
+        int second = rand.nextInt(genes.size());
+        if (hashValid) {
+            hash ^= ZobristHash.swapDelta(idx, genes.get(idx), second, genes.get(second));
         }
+        Collections.swap(genes, idx, second);
+        invalidate();
     }
 
     public void mutateByBecomingLast(int idx, double probability) {
-        if (rand.nextDouble() < probability && !genes.isEmpty()) {
+        if (RandomSource.get().nextDouble() < probability && !genes.isEmpty()) {
             int val = genes.get(idx);
             genes.remove(idx);
             genes.add(val);
+            invalidate();
+            hashValid = false;
         }
     }
 
@@ -0,0 +1,74 @@
+package GeneticAlgorithm.Chromosomes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Builds a chromosome of any type from a plain delivery sequence (the inverse of getDeliverySequence)
+public final class SequenceEncoder {
+
+    private SequenceEncoder() {
+    }
+
+    public static IntegerChromosome toInteger(List<Integer> sequence) {
+        return new IntegerChromosome(sequence);
+    }
+
+    // Orders are labelled 0..n-1; row = order, column = position
+    public static BinaryChromosome toBinary(List<Integer> sequence) {
+        int size = sequence.size();
+        List<List<Boolean>> genes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            List<Boolean> row = new ArrayList<>(size);
+            for (int j = 0; j < size; j++) {
+                row.add(Boolean.FALSE);
+            }
+            genes.add(row);
+        }
+        for (int position = 0; position < size; position++) {
+            genes.get(sequence.get(position)).set(position, Boolean.TRUE);
+        }
+        return new BinaryChromosome(genes);
+    }
+
+    // Stops are labelled 1..n; gene i is the key of stop i + 1 and higher keys are visited first
+    public static FloatingPointChromosome toFloatingPoint(List<Integer> sequence) {
+        int size = sequence.size();
+        Double[] keys = new Double[size];
+        for (int position = 0; position < size; position++) {
+            keys[sequence.get(position) - 1] = 1.0 - (position + 0.5) / size;
+        }
+        return new FloatingPointChromosome(List.of(keys));
+    }
+
+    // ==================== int[] variants, first n entries of the array ====================
+
+    public static IntegerChromosome toInteger(int[] sequence, int n) {
+        List<Integer> genes = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            genes.add(sequence[i]);
+        }
+        return new IntegerChromosome(genes);
+    }
+
+    public static BinaryChromosome toBinary(int[] sequence, int n) {
+        List<List<Boolean>> genes = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Boolean[] row = new Boolean[n];
+            Arrays.fill(row, Boolean.FALSE);
+            genes.add(Arrays.asList(row)); // BinaryChromosome copies the rows
+        }
+        for (int position = 0; position < n; position++) {
+            genes.get(sequence[position]).set(position, Boolean.TRUE);
+        }
+        return new BinaryChromosome(genes);
+    }
+
+    public static FloatingPointChromosome toFloatingPoint(int[] sequence, int n) {
+        Double[] keys = new Double[n];
+        for (int position = 0; position < n; position++) {
+            keys[sequence[position] - 1] = 1.0 - (position + 0.5) / n;
+        }
+        return new FloatingPointChromosome(Arrays.asList(keys));
+    }
+}
@@ -0,0 +1,502 @@
+package GeneticAlgorithm.Crossover;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Chromosomes.IntegerChromosome;
+import GeneticAlgorithm.Fitness.FitnessEvaluator;
+import GeneticAlgorithm.Helpers.RandomSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+// Edge Assembly Crossover (EAX, single AB-cycle strategy) for IntegerChromosome.
+// The open route seq[0] -> ... -> seq[n-1] is treated as a cycle through a dummy node 0 whose
+// edges cost nothing, so cycle length == route time. For a child built from parents A and B:
+//   1. Split the edges the parents don't share into AB-cycles (alternating A-edge, B-edge).
+//   2. For each of up to maxChildren AB-cycles, swap that cycle's A-edges for its B-edges in A.
+//      This leaves A broken into sub-tours.
+//   3. Merge sub-tours smallest first, using the cheapest 2-opt style reconnection towards a
+//      K-nearest neighbour of any of its nodes.
+//   4. Keep the child whose summed edge delta is lowest. Only changed edges are costed, so choosing
+//      the child needs no fitness evaluation.
+// Costs are symmetrised while assembling; the final path is oriented in its cheaper direction.
+public class EdgeAssemblyCrossover implements Crossover {
+
+    private static final int DEFAULT_NEIGHBOURS = 10;
+    private static final int DEFAULT_CHILDREN = 10;
+
+    private final int neighbourCount;
+    private final int maxChildren;
+    private volatile NeighbourLists neighbourLists;
+
+    public EdgeAssemblyCrossover() {
+        this(DEFAULT_NEIGHBOURS, DEFAULT_CHILDREN);
+    }
+
+    public EdgeAssemblyCrossover(int neighbourCount, int maxChildren) {
+        if (neighbourCount < 1) {
+            throw new IllegalArgumentException("Neighbour count must be at least 1");
+        }
+        if (maxChildren < 1) {
+            throw new IllegalArgumentException("Max children must be at least 1");
+        }
+        this.neighbourCount = neighbourCount;
+        this.maxChildren = maxChildren;
+    }
+
+    @Override
+    public List<Chromosome> crossover(Chromosome parent1, Chromosome parent2, double probability) {
+        if (!(parent1 instanceof IntegerChromosome) || !(parent2 instanceof IntegerChromosome)) {
+            throw new IllegalArgumentException("EdgeAssemblyCrossover only works with IntegerChromosome");
+        }
+        RandomGenerator rng = RandomSource.get();
+        List<Chromosome> offspring = new ArrayList<>(2);
+        if (rng.nextDouble() > probability) {
+            offspring.add(parent1.clone());
+            offspring.add(parent2.clone());
+            return offspring;
+        }
+
+        List<Integer> seq1 = parent1.getDeliverySequence();
+        List<Integer> seq2 = parent2.getDeliverySequence();
+        if (seq1.size() != seq2.size()) {
+            throw new IllegalArgumentException("Parents must have the same number of stops");
+        }
+        if (seq1.size() < 3) {
+            offspring.add(parent1.clone());
+            offspring.add(parent2.clone());
+            return offspring;
+        }
+
+        FitnessEvaluator evaluator = FitnessEvaluator.getInstance();
+        int[] neighbours = neighbours(evaluator, seq1.size());
+        offspring.add(new IntegerChromosome(assemble(seq1, seq2, evaluator, neighbours, rng)));
+        offspring.add(new IntegerChromosome(assemble(seq2, seq1, evaluator, neighbours, rng)));
+        return offspring;
+    }
+
+    // ==================== One child ====================
+
+    private List<Integer> assemble(List<Integer> seqA, List<Integer> seqB, FitnessEvaluator evaluator,
+                                   int[] neighbours, RandomGenerator rng) {
+        int n = seqA.size();
+        int nodes = n + 1;
+        int[] linkA = toLinks(seqA, nodes);
+        int[] linkB = toLinks(seqB, nodes);
+
+        List<int[]> abCycles = decompose(linkA, linkB, nodes, rng);
+        if (abCycles.isEmpty()) {
+            return new ArrayList<>(seqA);
+        }
+
+        // Try up to maxChildren distinct AB-cycles, in random order
+        for (int i = abCycles.size() - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            int[] tmp = abCycles.get(i);
+            abCycles.set(i, abCycles.get(j));
+            abCycles.set(j, tmp);
+        }
+
+        int[] bestLinks = null;
+        long bestDelta = Long.MAX_VALUE;
+        int[] child = new int[linkA.length];
+        SubTours subTours = new SubTours(nodes);
+        for (int c = 0; c < Math.min(maxChildren, abCycles.size()); c++) {
+            System.arraycopy(linkA, 0, child, 0, linkA.length);
+            long delta = applyCycle(child, abCycles.get(c), evaluator);
+            delta += mergeSubTours(child, subTours, nodes, neighbours, evaluator);
+            if (delta < bestDelta) {
+                bestDelta = delta;
+                bestLinks = child.clone();
+            }
+        }
+        return toSequence(bestLinks, n, evaluator);
+    }
+
+    // Undirected cycle 0 -> seq[0] -> ... -> seq[n-1] -> 0 as two neighbour slots per node
+    private static int[] toLinks(List<Integer> seq, int nodes) {
+        int[] links = new int[nodes * 2];
+        int previous = 0;
+        for (int i = 0; i <= seq.size(); i++) {
+            int next = i < seq.size() ? seq.get(i) : 0;
+            if (i < seq.size() && (next < 1 || next >= nodes)) {
+                throw new IllegalArgumentException("Stop label " + next + " outside 1.." + (nodes - 1));
+            }
+            links[previous * 2 + 1] = next;
+            links[next * 2] = previous;
+            previous = next;
+        }
+        return links;
+    }
+
+    // ==================== AB-cycle decomposition ====================
+
+    // Alternating walk over edges in exactly one parent. A cycle closes when the walk revisits a node
+    // at the same parity, so AB-cycles are cut out as soon as they appear, in O(n) overall.
+    // Each cycle is returned as nodes c0..c(m-1) with (c0,c1) an A-edge, (c1,c2) a B-edge, ...
+    private static List<int[]> decompose(int[] linkA, int[] linkB, int nodes, RandomGenerator rng) {
+        int[] remA = new int[nodes * 2];
+        int[] remB = new int[nodes * 2];
+        int[] countA = new int[nodes];
+        int[] countB = new int[nodes];
+        for (int v = 0; v < nodes; v++) {
+            for (int s = 0; s < 2; s++) {
+                int w = linkA[v * 2 + s];
+                if (linkB[v * 2] != w && linkB[v * 2 + 1] != w) {
+                    remA[v * 2 + countA[v]++] = w;
+                }
+                w = linkB[v * 2 + s];
+                if (linkA[v * 2] != w && linkA[v * 2 + 1] != w) {
+                    remB[v * 2 + countB[v]++] = w;
+                }
+            }
+        }
+
+        List<int[]> cycles = new ArrayList<>();
+        int[] path = new int[nodes * 4 + 1];
+        int[] posEven = new int[nodes];
+        int[] posOdd = new int[nodes];
+        Arrays.fill(posEven, -1);
+        Arrays.fill(posOdd, -1);
+
+        for (int start = 0; start < nodes; start++) {
+            while (countA[start] > 0) {
+                int length = 1;
+                path[0] = start;
+                posEven[start] = 0;
+                while (true) {
+                    int k = length - 1;
+                    int current = path[k];
+                    boolean takeA = (k & 1) == 0;
+                    int[] rem = takeA ? remA : remB;
+                    int[] count = takeA ? countA : countB;
+                    if (count[current] == 0) {
+                        if (length == 1) {
+                            break;
+                        }
+                        // Degrees are balanced, so this cannot happen for valid permutations
+                        throw new IllegalStateException("AB-cycle walk got stuck at node " + current);
+                    }
+                    int slot = count[current] == 1 ? 0 : rng.nextInt(count[current]);
+                    int next = rem[current * 2 + slot];
+                    removeEdge(rem, count, current, next);
+                    removeEdge(rem, count, next, current);
+
+                    int[] pos = ((k + 1) & 1) == 0 ? posEven : posOdd;
+                    int j = pos[next];
+                    if (j < 0) {
+                        path[length] = next;
+                        pos[next] = length;
+                        length++;
+                        continue;
+                    }
+
+                    // path[j..k] plus the edge back to path[j] is an AB-cycle
+                    int m = k - j + 1;
+                    int[] cycle = new int[m];
+                    int shift = (j & 1) == 0 ? 0 : 1;
+                    for (int i = 0; i < m; i++) {
+                        cycle[i] = path[j + (i + shift) % m];
+                    }
+                    cycles.add(cycle);
+                    for (int i = j + 1; i <= k; i++) {
+                        if ((i & 1) == 0) {
+                            posEven[path[i]] = -1;
+                        } else {
+                            posOdd[path[i]] = -1;
+                        }
+                    }
+                    length = j + 1;
+                }
+                posEven[start] = -1;
+            }
+        }
+        return cycles;
+    }
+
+    private static void removeEdge(int[] rem, int[] count, int from, int to) {
+        int base = from * 2;
+        if (rem[base] == to) {
+            rem[base] = rem[base + 1];
+        }
+        count[from]--;
+    }
+
+    // ==================== E-set application and sub-tour merging ====================
+
+    // Replace the cycle's A-edges with its B-edges; returns the change in (doubled) length
+    private static long applyCycle(int[] links, int[] cycle, FitnessEvaluator evaluator) {
+        int m = cycle.length;
+        long delta = 0;
+        for (int i = 0; i < m; i += 2) {
+            int u = cycle[i];
+            int w = cycle[(i + 1) % m];
+            unlink(links, u, w);
+            unlink(links, w, u);
+            delta -= cost(evaluator, u, w);
+        }
+        for (int i = 1; i < m; i += 2) {
+            int u = cycle[i];
+            int w = cycle[(i + 1) % m];
+            link(links, u, w);
+            link(links, w, u);
+            delta += cost(evaluator, u, w);
+        }
+        return delta;
+    }
+
+    // Repeatedly joins the smallest sub-tour to another one with the cheapest exchange of two edges
+    // (u,u'),(v,v') -> (u,v),(u',v') or (u,v'),(u',v), where v is one of u's nearest neighbours.
+    private long mergeSubTours(int[] links, SubTours subTours, int nodes, int[] neighbours, FitnessEvaluator evaluator) {
+        subTours.label(links);
+        long delta = 0;
+        while (subTours.count > 1) {
+            int smallest = subTours.smallest();
+            int bestU = -1, bestU2 = -1, bestV = -1, bestV2 = -1;
+            boolean bestCrossed = false;
+            long bestGain = Long.MAX_VALUE;
+
+            for (int u = subTours.head[smallest]; u != -1; u = subTours.nextMember[u]) {
+                for (int su = 0; su < 2; su++) {
+                    int u2 = links[u * 2 + su];
+                    long removedU = cost(evaluator, u, u2);
+                    int offset = u * neighbourCount;
+                    int limit = u == 0 ? 0 : neighbourCount;
+                    for (int k = 0; k < limit; k++) {
+                        int v = neighbours[offset + k];
+                        if (v < 0 || subTours.labels[v] == smallest) {
+                            continue;
+                        }
+                        for (int sv = 0; sv < 2; sv++) {
+                            int v2 = links[v * 2 + sv];
+                            long removed = removedU + cost(evaluator, v, v2);
+                            long straight = cost(evaluator, u, v) + cost(evaluator, u2, v2) - removed;
+                            if (straight < bestGain) {
+                                bestGain = straight;
+                                bestU = u; bestU2 = u2; bestV = v; bestV2 = v2;
+                                bestCrossed = false;
+                            }
+                            long crossed = cost(evaluator, u, v2) + cost(evaluator, u2, v) - removed;
+                            if (crossed < bestGain) {
+                                bestGain = crossed;
+                                bestU = u; bestU2 = u2; bestV = v; bestV2 = v2;
+                                bestCrossed = true;
+                            }
+                        }
+                    }
+                }
+            }
+
+            if (bestU == -1) {
+                // Every near neighbour is inside the sub-tour: join to any outside node
+                bestU = subTours.head[smallest];
+                bestU2 = links[bestU * 2];
+                for (int v = 0; v < nodes; v++) {
+                    if (subTours.labels[v] != smallest) {
+                        bestV = v;
+                        break;
+                    }
+                }
+                bestV2 = links[bestV * 2];
+                bestCrossed = false;
+                bestGain = cost(evaluator, bestU, bestV) + cost(evaluator, bestU2, bestV2)
+                        - cost(evaluator, bestU, bestU2) - cost(evaluator, bestV, bestV2);
+            }
+
+            unlink(links, bestU, bestU2);
+            unlink(links, bestU2, bestU);
+            unlink(links, bestV, bestV2);
+            unlink(links, bestV2, bestV);
+            int partnerOfU = bestCrossed ? bestV2 : bestV;
+            int partnerOfU2 = bestCrossed ? bestV : bestV2;
+            link(links, bestU, partnerOfU);
+            link(links, partnerOfU, bestU);
+            link(links, bestU2, partnerOfU2);
+            link(links, partnerOfU2, bestU2);
+            delta += bestGain;
+
+            subTours.absorb(smallest, subTours.labels[bestV]);
+        }
+        return delta;
+    }
+
+    private static void unlink(int[] links, int from, int to) {
+        if (links[from * 2] == to) {
+            links[from * 2] = -1;
+        } else {
+            links[from * 2 + 1] = -1;
+        }
+    }
+
+    private static void link(int[] links, int from, int to) {
+        if (links[from * 2] == -1) {
+            links[from * 2] = to;
+        } else {
+            links[from * 2 + 1] = to;
+        }
+    }
+
+    // Cut the cycle at the dummy node and walk it in whichever direction has the shorter route time
+    private static List<Integer> toSequence(int[] links, int n, FitnessEvaluator evaluator) {
+        int[] order = new int[n];
+        int previous = 0;
+        int current = links[0];
+        for (int i = 0; i < n; i++) {
+            order[i] = current;
+            int next = links[current * 2] == previous ? links[current * 2 + 1] : links[current * 2];
+            previous = current;
+            current = next;
+        }
+
+        long forward = 0;
+        long backward = 0;
+        for (int i = 0; i + 1 < n; i++) {
+            forward += evaluator.getDistance(order[i], order[i + 1]);
+            backward += evaluator.getDistance(order[i + 1], order[i]);
+        }
+        List<Integer> sequence = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            sequence.add(backward < forward ? order[n - 1 - i] : order[i]);
+        }
+        return sequence;
+    }
+
+    // Doubled symmetric cost; edges touching the dummy node are free
+    private static long cost(FitnessEvaluator evaluator, int u, int v) {
+        if (u == 0 || v == 0) {
+            return 0;
+        }
+        return (long) evaluator.getDistance(u, v) + evaluator.getDistance(v, u);
+    }
+
+    // ==================== Nearest neighbours ====================
+
+    // neighbourCount nearest stops per stop (by symmetric cost), padded with -1. Rebuilt when the
+    // matrix changes.
+    private int[] neighbours(FitnessEvaluator evaluator, int n) {
+        NeighbourLists cached = neighbourLists;
+        long version = evaluator.getMatrixVersion();
+        if (cached != null && cached.evaluator == evaluator && cached.version == version && cached.n == n) {
+            return cached.lists;
+        }
+        int k = neighbourCount;
+        int[] lists = new int[(n + 1) * k];
+        Arrays.fill(lists, -1);
+        long[] bestCost = new long[k];
+        for (int u = 1; u <= n; u++) {
+            int filled = 0;
+            int base = u * k;
+            for (int v = 1; v <= n; v++) {
+                if (v == u) {
+                    continue;
+                }
+                long c = cost(evaluator, u, v);
+                if (filled == k && c >= bestCost[k - 1]) {
+                    continue;
+                }
+                int i = filled < k ? filled++ : k - 1;
+                while (i > 0 && bestCost[i - 1] > c) {
+                    bestCost[i] = bestCost[i - 1];
+                    lists[base + i] = lists[base + i - 1];
+                    i--;
+                }
+                bestCost[i] = c;
+                lists[base + i] = v;
+            }
+        }
+        neighbourLists = new NeighbourLists(evaluator, version, n, lists);
+        return lists;
+    }
+
+    private static class NeighbourLists {
+        final FitnessEvaluator evaluator;
+        final long version;
+        final int n;
+        final int[] lists;
+
+        NeighbourLists(FitnessEvaluator evaluator, long version, int n, int[] lists) {
+            this.evaluator = evaluator;
+            this.version = version;
+            this.n = n;
+            this.lists = lists;
+        }
+    }
+
+    // Sub-tour membership as labels plus an intrusive member list per label, so absorbing one
+    // sub-tour into another costs O(size of the absorbed one)
+    private static class SubTours {
+        final int[] labels;
+        final int[] nextMember;
+        final int[] head;
+        final int[] tail;
+        final int[] size;
+        int count;
+        int labelsUsed;
+
+        SubTours(int nodes) {
+            labels = new int[nodes];
+            nextMember = new int[nodes];
+            head = new int[nodes];
+            tail = new int[nodes];
+            size = new int[nodes];
+        }
+
+        void label(int[] links) {
+            int nodes = labels.length;
+            Arrays.fill(labels, -1);
+            count = 0;
+            for (int start = 0; start < nodes; start++) {
+                if (labels[start] != -1) {
+                    continue;
+                }
+                int id = count++;
+                head[id] = start;
+                size[id] = 0;
+                int previous = -1;
+                int current = start;
+                int last = -1;
+                do {
+                    labels[current] = id;
+                    size[id]++;
+                    if (last != -1) {
+                        nextMember[last] = current;
+                    }
+                    last = current;
+                    int next = links[current * 2] != previous ? links[current * 2] : links[current * 2 + 1];
+                    previous = current;
+                    current = next;
+                } while (current != start);
+                nextMember[last] = -1;
+                tail[id] = last;
+            }
+            labelsUsed = count;
+        }
+
+        int smallest() {
+            int best = -1;
+            for (int id = 0; id < labelsUsed; id++) {
+                if (size[id] > 0 && (best == -1 || size[id] < size[best])) {
+                    best = id;
+                }
+            }
+            return best;
+        }
+
+        void absorb(int from, int into) {
+            for (int v = head[from]; v != -1; v = nextMember[v]) {
+                labels[v] = into;
+            }
+            nextMember[tail[into]] = head[from];
+            tail[into] = tail[from];
+            size[into] += size[from];
+            size[from] = 0;
+            count--;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EdgeAssemblyCrossover{neighbours=" + neighbourCount + ", children=" + maxChildren + "}";
+    }
+}
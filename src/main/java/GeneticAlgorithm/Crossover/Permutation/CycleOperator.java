@@ -0,0 +1,37 @@
+package GeneticAlgorithm.Crossover.Permutation;
+
+import java.util.random.RandomGenerator;
+
+// CX: split positions into the cycles of the parent 1 / parent 2 mapping and take alternate
+// cycles from each parent, so every gene keeps the absolute position it had in one of the parents.
+public class CycleOperator implements PermutationOperator {
+
+    @Override
+    public void cross(int[] parent1, int[] parent2, int[] child, int n, PermutationWorkspace ws, RandomGenerator rng) {
+        int[] position1 = ws.position1;
+        for (int i = 0; i < n; i++) {
+            position1[parent1[i]] = i;
+        }
+
+        // Positions are flagged through their parent 1 gene
+        ws.beginPass();
+        boolean fromFirst = rng.nextBoolean();
+        for (int start = 0; start < n; start++) {
+            if (ws.isUsed(parent1[start])) {
+                continue;
+            }
+            int i = start;
+            do {
+                ws.markUsed(parent1[i]);
+                child[i] = fromFirst ? parent1[i] : parent2[i];
+                i = position1[parent2[i]];
+            } while (i != start);
+            fromFirst = !fromFirst;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CX";
+    }
+}
@@ -0,0 +1,92 @@
+package GeneticAlgorithm.Crossover.Permutation;
+
+import java.util.random.RandomGenerator;
+
+// ERX: build the union of both parents' neighbour lists (at most 4 per stop on a path), then walk
+// from parent 1's first stop, always moving to the unvisited neighbour with the fewest remaining
+// neighbours. Dead ends jump to a random unvisited stop, kept in a swap-remove pool so the pick is O(1).
+public class EdgeRecombinationOperator implements PermutationOperator {
+
+    @Override
+    public void cross(int[] parent1, int[] parent2, int[] child, int n, PermutationWorkspace ws, RandomGenerator rng) {
+        int[] adjacency = ws.adjacency;
+        int[] degree = ws.degree;
+        int[] pool = ws.pool;
+        int[] poolIndex = ws.poolIndex;
+
+        for (int i = 0; i < n; i++) {
+            int label = parent1[i];
+            degree[label] = 0;
+            pool[i] = label;
+            poolIndex[label] = i;
+        }
+        addEdges(parent1, n, adjacency, degree);
+        addEdges(parent2, n, adjacency, degree);
+        int poolSize = n;
+
+        int current = parent1[0];
+        for (int k = 0; k < n; k++) {
+            child[k] = current;
+
+            int last = pool[--poolSize];
+            int slot = poolIndex[current];
+            pool[slot] = last;
+            poolIndex[last] = slot;
+
+            // Drop `current` from its neighbours' lists and pick the most constrained neighbour
+            int next = -1;
+            int nextDegree = Integer.MAX_VALUE;
+            int ties = 0;
+            for (int e = 0; e < degree[current]; e++) {
+                int neighbour = adjacency[current * 4 + e];
+                removeEdge(neighbour, current, adjacency, degree);
+                int d = degree[neighbour];
+                if (d < nextDegree) {
+                    next = neighbour;
+                    nextDegree = d;
+                    ties = 1;
+                } else if (d == nextDegree && rng.nextInt(++ties) == 0) {
+                    next = neighbour;
+                }
+            }
+            degree[current] = 0;
+
+            if (next == -1 && poolSize > 0) {
+                next = pool[rng.nextInt(poolSize)];
+            }
+            current = next;
+        }
+    }
+
+    private static void addEdges(int[] parent, int n, int[] adjacency, int[] degree) {
+        for (int i = 0; i + 1 < n; i++) {
+            addEdge(parent[i], parent[i + 1], adjacency, degree);
+            addEdge(parent[i + 1], parent[i], adjacency, degree);
+        }
+    }
+
+    private static void addEdge(int from, int to, int[] adjacency, int[] degree) {
+        int base = from * 4;
+        for (int e = 0; e < degree[from]; e++) {
+            if (adjacency[base + e] == to) {
+                return;
+            }
+        }
+        adjacency[base + degree[from]++] = to;
+    }
+
+    private static void removeEdge(int from, int to, int[] adjacency, int[] degree) {
+        int base = from * 4;
+        for (int e = 0; e < degree[from]; e++) {
+            if (adjacency[base + e] == to) {
+                adjacency[base + e] = adjacency[base + --degree[from]];
+                return;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ERX";
+    }
+}
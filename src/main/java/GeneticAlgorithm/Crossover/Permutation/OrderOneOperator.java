@@ -0,0 +1,38 @@
+package GeneticAlgorithm.Crossover.Permutation;
+
+import java.util.random.RandomGenerator;
+
+// OX1: copy a random slice of parent 1, then fill the remaining positions (starting after the
+// slice and wrapping around) with parent 2's genes in parent 2's order, skipping ones already copied.
+public class OrderOneOperator implements PermutationOperator {
+
+    @Override
+    public void cross(int[] parent1, int[] parent2, int[] child, int n, PermutationWorkspace ws, RandomGenerator rng) {
+        if (n < 2) {
+            System.arraycopy(parent1, 0, child, 0, n);
+            return;
+        }
+        int cut1 = rng.nextInt(n - 1);
+        int cut2 = cut1 + 1 + rng.nextInt(n - cut1 - 1);
+
+        ws.beginPass();
+        for (int i = cut1; i <= cut2; i++) {
+            child[i] = parent1[i];
+            ws.markUsed(parent1[i]);
+        }
+
+        int write = (cut2 + 1) % n;
+        for (int k = 1; k <= n; k++) {
+            int gene = parent2[(cut2 + k) % n];
+            if (!ws.isUsed(gene)) {
+                child[write] = gene;
+                write = (write + 1) % n;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OX1";
+    }
+}
@@ -0,0 +1,55 @@
+package GeneticAlgorithm.Crossover.Permutation;
+
+import java.util.random.RandomGenerator;
+
+// PMX: copy a random slice of parent 1. Each parent 2 gene in the slice that was not copied follows
+// the slice mapping (position -> parent 1 gene -> its position in parent 2) until it lands outside
+// the slice. Everything else comes from parent 2. The mapping is a permutation of positions, so the
+// chains are disjoint and the whole operator stays O(n).
+public class PartiallyMappedOperator implements PermutationOperator {
+
+    @Override
+    public void cross(int[] parent1, int[] parent2, int[] child, int n, PermutationWorkspace ws, RandomGenerator rng) {
+        if (n < 2) {
+            System.arraycopy(parent1, 0, child, 0, n);
+            return;
+        }
+        int cut1 = rng.nextInt(n - 1);
+        int cut2 = cut1 + 1 + rng.nextInt(n - cut1 - 1);
+
+        int[] position2 = ws.position2;
+        for (int i = 0; i < n; i++) {
+            position2[parent2[i]] = i;
+            child[i] = -1;
+        }
+
+        ws.beginPass();
+        for (int i = cut1; i <= cut2; i++) {
+            child[i] = parent1[i];
+            ws.markUsed(parent1[i]);
+        }
+
+        for (int i = cut1; i <= cut2; i++) {
+            int gene = parent2[i];
+            if (ws.isUsed(gene)) {
+                continue;
+            }
+            int target = i;
+            while (target >= cut1 && target <= cut2) {
+                target = position2[parent1[target]];
+            }
+            child[target] = gene;
+        }
+
+        for (int i = 0; i < n; i++) {
+            if (child[i] == -1) {
+                child[i] = parent2[i];
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PMX";
+    }
+}
@@ -0,0 +1,109 @@
+package GeneticAlgorithm.Crossover.Permutation;
+
+import GeneticAlgorithm.Chromosomes.BinaryChromosome;
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Chromosomes.FloatingPointChromosome;
+import GeneticAlgorithm.Chromosomes.IntegerChromosome;
+import GeneticAlgorithm.Chromosomes.SequenceEncoder;
+import GeneticAlgorithm.Crossover.Crossover;
+import GeneticAlgorithm.Helpers.RandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+// Runs a PermutationOperator on the decoded delivery sequences of any chromosome type and encodes
+// the children back into the parents' type. The operator itself works on int[] buffers from the
+// thread's PermutationWorkspace; boxing only happens once, when the children are built.
+public class PermutationCrossover implements Crossover {
+
+    private final PermutationOperator operator;
+
+    public PermutationCrossover(PermutationOperator operator) {
+        if (operator == null) {
+            throw new IllegalArgumentException("Operator cannot be null");
+        }
+        this.operator = operator;
+    }
+
+    public static PermutationCrossover orderOne() {
+        return new PermutationCrossover(new OrderOneOperator());
+    }
+
+    public static PermutationCrossover partiallyMapped() {
+        return new PermutationCrossover(new PartiallyMappedOperator());
+    }
+
+    public static PermutationCrossover cycle() {
+        return new PermutationCrossover(new CycleOperator());
+    }
+
+    public static PermutationCrossover edgeRecombination() {
+        return new PermutationCrossover(new EdgeRecombinationOperator());
+    }
+
+    @Override
+    public List<Chromosome> crossover(Chromosome parent1, Chromosome parent2, double probability) {
+        if (parent1.getClass() != parent2.getClass()) {
+            throw new IllegalArgumentException("Parents must be the same chromosome type");
+        }
+        RandomGenerator rng = RandomSource.get();
+        List<Chromosome> offspring = new ArrayList<>(2);
+        if (rng.nextDouble() > probability) {
+            offspring.add(parent1.clone());
+            offspring.add(parent2.clone());
+            return offspring;
+        }
+
+        List<Integer> seq1 = parent1.getDeliverySequence();
+        List<Integer> seq2 = parent2.getDeliverySequence();
+        int n = seq1.size();
+        if (seq2.size() != n) {
+            throw new IllegalArgumentException("Parents must have the same number of stops");
+        }
+
+        PermutationWorkspace ws = PermutationWorkspace.get();
+        ws.ensure(n, n + 1);
+        copy(seq1, ws.parent1, n);
+        copy(seq2, ws.parent2, n);
+
+        operator.cross(ws.parent1, ws.parent2, ws.child1, n, ws, rng);
+        operator.cross(ws.parent2, ws.parent1, ws.child2, n, ws, rng);
+
+        offspring.add(encode(parent1, ws.child1, n));
+        offspring.add(encode(parent1, ws.child2, n));
+        return offspring;
+    }
+
+    private static void copy(List<Integer> sequence, int[] target, int n) {
+        for (int i = 0; i < n; i++) {
+            int label = sequence.get(i);
+            if (label < 0 || label > n) {
+                throw new IllegalArgumentException("Stop label " + label + " outside 0.." + n);
+            }
+            target[i] = label;
+        }
+    }
+
+    private static Chromosome encode(Chromosome template, int[] sequence, int n) {
+        if (template instanceof IntegerChromosome) {
+            return SequenceEncoder.toInteger(sequence, n);
+        }
+        if (template instanceof BinaryChromosome) {
+            return SequenceEncoder.toBinary(sequence, n);
+        }
+        if (template instanceof FloatingPointChromosome) {
+            return SequenceEncoder.toFloatingPoint(sequence, n);
+        }
+        throw new IllegalArgumentException("Unsupported chromosome type: " + template.getClass().getSimpleName());
+    }
+
+    public PermutationOperator getOperator() {
+        return operator;
+    }
+
+    @Override
+    public String toString() {
+        return "PermutationCrossover (" + operator + ")";
+    }
+}
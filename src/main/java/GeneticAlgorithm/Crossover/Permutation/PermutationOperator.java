@@ -0,0 +1,10 @@
+package GeneticAlgorithm.Crossover.Permutation;
+
+import java.util.random.RandomGenerator;
+
+// One child from two parent permutations of the same n labels, all labels in [0, n].
+// Implementations work on the first n entries of the arrays and may use any workspace buffer
+// other than the parents and the child they were given.
+public interface PermutationOperator {
+    void cross(int[] parent1, int[] parent2, int[] child, int n, PermutationWorkspace ws, RandomGenerator rng);
+}
@@ -0,0 +1,70 @@
+package GeneticAlgorithm.Crossover.Permutation;
+
+import java.util.Arrays;
+
+// Scratch buffers for permutation crossovers, one per thread and reused across calls, so a
+// crossover allocates nothing once the buffers have grown to the instance size.
+// "Used" flags are generation-stamped: starting a new pass is one increment instead of clearing an array.
+public final class PermutationWorkspace {
+
+    private static final ThreadLocal<PermutationWorkspace> LOCAL = ThreadLocal.withInitial(PermutationWorkspace::new);
+
+    int[] parent1 = new int[0];
+    int[] parent2 = new int[0];
+    int[] child1 = new int[0];
+    int[] child2 = new int[0];
+    // Indexed by label
+    int[] position1 = new int[0];
+    int[] position2 = new int[0];
+    int[] adjacency = new int[0];
+    int[] degree = new int[0];
+    int[] pool = new int[0];
+    int[] poolIndex = new int[0];
+
+    private int[] stamps = new int[0];
+    private int stamp = 0;
+
+    private PermutationWorkspace() {
+    }
+
+    public static PermutationWorkspace get() {
+        return LOCAL.get();
+    }
+
+    // Grow buffers for sequences of length n with labels in [0, labelBound)
+    void ensure(int n, int labelBound) {
+        if (parent1.length < n) {
+            parent1 = new int[n];
+            parent2 = new int[n];
+            child1 = new int[n];
+            child2 = new int[n];
+        }
+        if (stamps.length < labelBound) {
+            stamps = new int[labelBound];
+            stamp = 0;
+            position1 = new int[labelBound];
+            position2 = new int[labelBound];
+            adjacency = new int[labelBound * 4];
+            degree = new int[labelBound];
+            pool = new int[labelBound];
+            poolIndex = new int[labelBound];
+        }
+    }
+
+    // Clears every "used" flag in O(1)
+    void beginPass() {
+        stamp++;
+        if (stamp == 0) {
+            Arrays.fill(stamps, 0);
+            stamp = 1;
+        }
+    }
+
+    boolean isUsed(int value) {
+        return stamps[value] == stamp;
+    }
+
+    void markUsed(int value) {
+        stamps[value] = stamp;
+    }
+}
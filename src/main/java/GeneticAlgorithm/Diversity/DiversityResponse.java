@@ -0,0 +1,10 @@
+package GeneticAlgorithm.Diversity;
+
+// What GeneticAlgorithm does when population diversity drops below its threshold
+public enum DiversityResponse {
+    NONE,
+    // Keep the elites and re-randomize everybody else
+    RESTART,
+    // Raise the mutation rate until diversity recovers
+    MUTATION_BOOST
+}
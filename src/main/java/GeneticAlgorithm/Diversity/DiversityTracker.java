@@ -0,0 +1,152 @@
+package GeneticAlgorithm.Diversity;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Chromosomes.FloatingPointChromosome;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+// Population diversity in [0, 1]: 0 = every individual identical, 1 = as spread out as a random population.
+//   Permutations (integer, binary): entropy of the edge (stop -> next stop) frequencies, normalized
+//     between log(n - 1) (one tour repeated) and the most this population size allows,
+//     log(min(pop * (n - 1), n * (n - 1))) (edges spread evenly).
+//     Edge counts are kept across generations and only tours that entered or left the population
+//     are added/subtracted, so a converged population costs almost nothing to track.
+//   Random keys: RMS distance between two individuals' keys at the same locus, averaged over
+//     loci and scaled by its value for uniform random keys.
+public class DiversityTracker {
+
+    private static final double UNIFORM_RMS_DISTANCE = Math.sqrt(1.0 / 6.0);
+    private static final int RESYNC_INTERVAL = 64;
+
+    private final EdgeCounts edges = new EdgeCounts();
+    // Tours currently counted in `edges`, keyed by sequence hash
+    private final Map<Long, Member> members = new HashMap<>();
+    private int length = -1;
+    private int updates = 0;
+    private double diversity = 1.0;
+
+    public double update(List<Chromosome> population) {
+        if (population.isEmpty()) {
+            return diversity;
+        }
+        Chromosome first = population.get(0);
+        int n = first.getDeliverySequence().size();
+        if (n != length) {
+            reset();
+            length = n;
+        }
+        if (n < 2 || population.size() < 2) {
+            diversity = 0.0;
+        } else if (first instanceof FloatingPointChromosome) {
+            diversity = keyDistance(population, n);
+        } else {
+            diversity = edgeEntropy(population, n);
+        }
+        return diversity;
+    }
+
+    public double getDiversity() {
+        return diversity;
+    }
+
+    // Forget counted tours, e.g. after stops were added or removed
+    public void reset() {
+        edges.clear();
+        members.clear();
+        length = -1;
+        updates = 0;
+        diversity = 1.0;
+    }
+
+    private double edgeEntropy(List<Chromosome> population, int n) {
+        Map<Long, Integer> nextCounts = new HashMap<>();
+        Map<Long, Chromosome> samples = new HashMap<>();
+        for (Chromosome c : population) {
+            long hash = c.sequenceHash();
+            nextCounts.merge(hash, 1, Integer::sum);
+            samples.putIfAbsent(hash, c);
+        }
+
+        // Tours that stayed keep their edges; only differences in multiplicity are applied
+        Iterator<Map.Entry<Long, Member>> it = members.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, Member> entry = it.next();
+            Member member = entry.getValue();
+            int target = nextCounts.getOrDefault(entry.getKey(), 0);
+            if (target != member.count) {
+                addEdges(member.sequence, target - member.count);
+                member.count = target;
+            }
+            if (target == 0) {
+                it.remove();
+            }
+        }
+        for (Map.Entry<Long, Integer> entry : nextCounts.entrySet()) {
+            if (!members.containsKey(entry.getKey())) {
+                int[] sequence = toArray(samples.get(entry.getKey()).getDeliverySequence());
+                addEdges(sequence, entry.getValue());
+                members.put(entry.getKey(), new Member(sequence, entry.getValue()));
+            }
+        }
+        if (++updates % RESYNC_INTERVAL == 0) {
+            edges.resync();
+        }
+
+        double floor = Math.log(n - 1);
+        double ceiling = Math.log(Math.min((double) edges.getTotal(), (double) n * (n - 1)));
+        if (ceiling <= floor) {
+            return 0.0;
+        }
+        double normalized = (edges.entropy() - floor) / (ceiling - floor);
+        return Math.max(0.0, Math.min(1.0, normalized));
+    }
+
+    private void addEdges(int[] sequence, int delta) {
+        for (int i = 0; i + 1 < sequence.length; i++) {
+            edges.add(sequence[i], sequence[i + 1], delta);
+        }
+    }
+
+    private double keyDistance(List<Chromosome> population, int n) {
+        double[] sum = new double[n];
+        double[] sumSq = new double[n];
+        for (Chromosome c : population) {
+            List<Double> genes = ((FloatingPointChromosome) c).getGenes();
+            for (int j = 0; j < n; j++) {
+                double g = genes.get(j);
+                sum[j] += g;
+                sumSq[j] += g * g;
+            }
+        }
+        int pop = population.size();
+        double total = 0.0;
+        for (int j = 0; j < n; j++) {
+            double mean = sum[j] / pop;
+            double variance = Math.max(0.0, sumSq[j] / pop - mean * mean);
+            // E[(x - y)^2] = 2 * variance for two independent draws
+            total += Math.sqrt(2.0 * variance);
+        }
+        return Math.min(1.0, total / n / UNIFORM_RMS_DISTANCE);
+    }
+
+    private static int[] toArray(List<Integer> sequence) {
+        int[] array = new int[sequence.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = sequence.get(i);
+        }
+        return array;
+    }
+
+    private static class Member {
+        final int[] sequence;
+        int count;
+
+        Member(int[] sequence, int count) {
+            this.sequence = sequence;
+            this.count = count;
+        }
+    }
+}
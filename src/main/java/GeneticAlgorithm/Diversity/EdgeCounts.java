@@ -0,0 +1,134 @@
+package GeneticAlgorithm.Diversity;
+
+import java.util.Arrays;
+
+// Open-addressing multiset of directed edges (from -> to) that also keeps sum(c * ln c) over all
+// counts, so the edge entropy can be read in O(1) after each change.
+final class EdgeCounts {
+
+    private static final long EMPTY = -1L;
+
+    private long[] keys;
+    private int[] counts;
+    private int size;
+    private long total;
+    private double sumCLogC;
+
+    EdgeCounts() {
+        allocate(1024);
+    }
+
+    void add(int from, int to, int delta) {
+        long key = (long) from << 32 | (to & 0xFFFFFFFFL);
+        int slot = find(key);
+        int old = keys[slot] == EMPTY ? 0 : counts[slot];
+        int updated = old + delta;
+        if (updated < 0) {
+            throw new IllegalStateException("Edge count went negative");
+        }
+        sumCLogC += cLogC(updated) - cLogC(old);
+        total += delta;
+
+        if (updated == 0) {
+            if (old != 0) {
+                delete(slot);
+            }
+            return;
+        }
+        if (old == 0) {
+            keys[slot] = key;
+            size++;
+        }
+        counts[slot] = updated;
+        if (size * 2 > keys.length) {
+            rehash();
+        }
+    }
+
+    long getTotal() {
+        return total;
+    }
+
+    // Shannon entropy (nats) of the edge frequency distribution
+    double entropy() {
+        if (total == 0) {
+            return 0.0;
+        }
+        return Math.log(total) - sumCLogC / total;
+    }
+
+    // Recompute the running sum from scratch to shed accumulated rounding
+    void resync() {
+        double sum = 0.0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                sum += cLogC(counts[i]);
+            }
+        }
+        sumCLogC = sum;
+    }
+
+    void clear() {
+        allocate(1024);
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // Backward-shift deletion keeps linear probing chains intact without tombstones
+    private void delete(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                counts[hole] = counts[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        size--;
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new long[oldKeys.length * 2];
+        counts = new int[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        counts = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+        total = 0;
+        sumCLogC = 0.0;
+    }
+
+    private static int mix(long key) {
+        long z = key * 0x9E3779B97F4A7C15L;
+        return (int) (z ^ (z >>> 32));
+    }
+
+    private static double cLogC(int c) {
+        return c <= 1 ? 0.0 : c * Math.log(c);
+    }
+}
@@ -3,17 +3,42 @@ package GeneticAlgorithm.Fitness;
 import GeneticAlgorithm.Chromosomes.Chromosome;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
 public class FitnessEvaluator {
 
-    private static FitnessEvaluator instance;
+    private static volatile FitnessEvaluator instance;
+    // Per-thread replacement for the singleton, so engines on different threads can solve different matrices
+    private static final ThreadLocal<FitnessEvaluator> threadOverride = new ThreadLocal<>();
+    private static final double ALPHA = 0.01;
 
-    private final ArrayList<ArrayList<Integer>> distanceMatrix;
+    // Row-major copy of the matrix with `stride` columns per row; the first `size` rows and columns are in use.
+    // One flat int[] instead of boxed rows keeps neighbouring stops' distances on neighbouring cache lines.
+    private int[] distances;
+    private int stride;
+    private int size;
     private final int timeConstraint;
-
+    private final LongAdder evaluationCount = new LongAdder(); // striped: several engines may evaluate at once
+    private volatile long matrixVersion = 0;
+    private volatile TranspositionTable transpositionTable;
+    private volatile TimeDependentTravelTimes travelTimes; // null: the static matrix
+    private volatile SplitDecoder splitDecoder; // null: one tour against timeConstraint
 
     private FitnessEvaluator(ArrayList<ArrayList<Integer>> distanceMatrix, int timeConstraint) {
-        this.distanceMatrix = distanceMatrix;
+        int n = distanceMatrix.size();
+        this.distances = new int[n * n];
+        this.stride = n;
+        this.size = n;
+        for (int i = 0; i < n; i++) {
+            ArrayList<Integer> row = distanceMatrix.get(i);
+            if (row.size() != n) {
+                throw new IllegalArgumentException("Distance matrix must be square: row " + i + " has " +
+                        row.size() + " entries, expected " + n);
+            }
+            for (int j = 0; j < n; j++) {
+                distances[i * n + j] = row.get(j);
+            }
+        }
         this.timeConstraint = timeConstraint;
     }
 
@@ -24,30 +49,335 @@ public class FitnessEvaluator {
         return instance;
     }
 
-    public static synchronized FitnessEvaluator getInstance() {
-        if (instance == null) {
+    // Lock-free: every chromosome calls this when it is created
+    public static FitnessEvaluator getInstance() {
+        FitnessEvaluator override = threadOverride.get();
+        if (override != null) {
+            return override;
+        }
+        FitnessEvaluator current = instance;
+        if (current == null) {
             throw new IllegalStateException("FitnessEvaluator not initialized. Call getInstance(distanceMatrix, timeConstraint) first.");
         }
-        return instance;
+        return current;
+    }
+
+    // A standalone evaluator that is not the singleton, e.g. for a sub-problem
+    public static FitnessEvaluator create(ArrayList<ArrayList<Integer>> distanceMatrix, int timeConstraint) {
+        return new FitnessEvaluator(distanceMatrix, timeConstraint);
+    }
+
+    // Until cleared, getInstance() on the calling thread returns `evaluator` (null clears)
+    public static void setThreadOverride(FitnessEvaluator evaluator) {
+        if (evaluator == null) {
+            threadOverride.remove();
+        } else {
+            threadOverride.set(evaluator);
+        }
     }
 
     public static synchronized void resetInstance() {
         instance = null;
     }
     public double evaluate(Chromosome chromosome) {
-        double alpha = 0.01;
-        return calculateOnTimeDeliveries(chromosome)-alpha*(calculateTotalRouteTime(chromosome)-timeConstraint);
+        TranspositionTable table = transpositionTable;
+        long hash = 0L;
+        if (table != null) {
+            hash = chromosome.sequenceHash();
+            double cached = table.probeFitness(hash);
+            if (!Double.isNaN(cached)) {
+                return cached;
+            }
+        }
+        evaluationCount.increment();
+        List<Integer> seq = chromosome.getDeliverySequence();
+        SplitDecoder split = splitDecoder;
+        int routeTime;
+        double fitness;
+        if (split != null) {
+            int[] totals = split.evaluate(this, toArray(seq));
+            routeTime = totals[0];
+            fitness = splitScore(split, seq.size(), totals);
+        } else {
+            routeTime = routeTime(seq);
+            fitness = score(calculateOnTimeDeliveries(chromosome), routeTime);
+        }
+        if (table != null) {
+            table.store(hash, fitness, routeTime);
+        }
+        return fitness;
+    }
+
+    // Same score as evaluate(Chromosome) for a raw tour, for solvers that work on int[] directly.
+    // Bypasses the transposition table.
+    public double evaluate(int[] sequence) {
+        evaluationCount.increment();
+        if (sequence.length == 0) {
+            return score(0, 0);
+        }
+        SplitDecoder split = splitDecoder;
+        if (split != null) {
+            return splitScore(split, sequence.length, split.evaluate(this, sequence));
+        }
+        // Travel times are non-negative, so the on-time stops are a prefix of the tour
+        TimeDependentTravelTimes profiles = travelTimes;
+        int onTime = 1;
+        int routeTime = 0;
+        if (profiles != null) {
+            for (int i = 1; i < sequence.length; i++) {
+                routeTime = profiles.arrival(sequence[i - 1], sequence[i], routeTime);
+                if (routeTime <= timeConstraint) {
+                    onTime++;
+                }
+            }
+            return score(onTime, routeTime);
+        }
+        int[] d = distances;
+        int w = stride;
+        for (int i = 1; i < sequence.length; i++) {
+            routeTime += d[sequence[i - 1] * w + sequence[i]];
+            if (routeTime <= timeConstraint) {
+                onTime++;
+            }
+        }
+        return score(onTime, routeTime);
+    }
+
+    // The objective: on-time deliveries, minus a small penalty per unit of route time over the constraint
+    public double score(int onTimeDeliveries, int routeTime) {
+        return onTimeDeliveries - ALPHA * (routeTime - timeConstraint);
+    }
+
+    public int routeTime(int[] sequence) {
+        SplitDecoder split = splitDecoder;
+        if (split != null) {
+            return split.evaluate(this, sequence)[0];
+        }
+        TimeDependentTravelTimes profiles = travelTimes;
+        int totalTime = 0;
+        if (profiles != null) {
+            for (int i = 1; i < sequence.length; i++) {
+                totalTime = profiles.arrival(sequence[i - 1], sequence[i], totalTime);
+            }
+            return totalTime;
+        }
+        int[] d = distances;
+        int w = stride;
+        for (int i = 1; i < sequence.length; i++) {
+            totalTime += d[sequence[i - 1] * w + sequence[i]];
+        }
+        return totalTime;
+    }
+
+    // Optional cache of already-evaluated tours; pass null to turn it off
+    public void setTranspositionTable(TranspositionTable transpositionTable) {
+        this.transpositionTable = transpositionTable;
+    }
+
+    public TranspositionTable getTranspositionTable() {
+        return transpositionTable;
+    }
+
+    // Fleet objective: the tour is split into depot-to-depot routes (SplitDecoder), a stop is on time
+    // unless its route exceeds the duration limit, and the route time is the total over all routes
+    // plus the vehicle cost per route. Operators keep working on single giant tours. Pass null to go back.
+    public synchronized void setSplitDecoder(SplitDecoder splitDecoder) {
+        if (splitDecoder != null && travelTimes != null) {
+            throw new IllegalStateException("Split decoding does not support time-dependent travel times");
+        }
+        this.splitDecoder = splitDecoder;
+        matrixVersion++;
+        clearTranspositionTable();
+    }
+
+    public SplitDecoder getSplitDecoder() {
+        return splitDecoder;
+    }
+
+    // The routes of one giant tour under the current split decoder
+    public SplitDecoder.Result split(List<Integer> sequence) {
+        SplitDecoder split = splitDecoder;
+        if (split == null) {
+            throw new IllegalStateException("No split decoder set");
+        }
+        return split.split(this, toArray(sequence));
+    }
+
+    // False when the objective is not a single tour over the static matrix, which the exact DP and
+    // the bounds assume
+    public boolean isSingleStaticTour() {
+        return travelTimes == null && splitDecoder == null;
+    }
+
+    private double splitScore(SplitDecoder split, int stops, int[] totals) {
+        long cost = (long) totals[0] + (long) totals[1] * split.getVehicleCost();
+        return score(stops - totals[2], (int) Math.min(Integer.MAX_VALUE, cost));
+    }
+
+    private static int[] toArray(List<Integer> sequence) {
+        int[] array = new int[sequence.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = sequence.get(i);
+        }
+        return array;
+    }
+
+    // With profiles set, a leg's travel time depends on the clock when it starts: the tour starts at
+    // time 0 at its first stop, and each leg departs on arrival at the previous stop. getDistance()
+    // keeps returning the static matrix, which the profiles never undercut. Pass null to go back.
+    public synchronized void setTravelTimes(TimeDependentTravelTimes travelTimes) {
+        if (travelTimes != null && splitDecoder != null) {
+            throw new IllegalStateException("Split decoding does not support time-dependent travel times");
+        }
+        if (travelTimes != null && travelTimes.size() != size) {
+            throw new IllegalArgumentException("Travel times cover " + travelTimes.size() +
+                    " locations, the matrix has " + size);
+        }
+        this.travelTimes = travelTimes;
+        matrixVersion++;
+        clearTranspositionTable();
+    }
+
+    public TimeDependentTravelTimes getTravelTimes() {
+        return travelTimes;
+    }
+
+    public boolean isTimeDependent() {
+        return travelTimes != null;
+    }
+
+    // Cached tours were scored against the old matrix
+    private void clearTranspositionTable() {
+        TranspositionTable table = transpositionTable;
+        if (table != null) {
+            table.clear();
+        }
+    }
+
+    // ==================== Incremental matrix updates ====================
+    // These edit the evaluator's own copy of the matrix, not the list passed to getInstance().
+    // Call them between runs, not while a GA is evolving.
+
+    // Appends a new stop and returns its index. fromNewStop.get(j) is the travel time new -> j,
+    // toNewStop.get(j) is j -> new, for every existing index j (depot included).
+    public synchronized int addStop(List<Integer> fromNewStop, List<Integer> toNewStop) {
+        requireStaticMatrix();
+        int n = size;
+        if (fromNewStop.size() != n || toNewStop.size() != n) {
+            throw new IllegalArgumentException("Expected " + n + " distances, got " +
+                    fromNewStop.size() + " and " + toNewStop.size());
+        }
+        if (n == stride) {
+            grow(Math.max(4, stride * 2));
+        }
+        int[] d = distances;
+        for (int j = 0; j < n; j++) {
+            d[j * stride + n] = toNewStop.get(j);
+            d[n * stride + j] = fromNewStop.get(j);
+        }
+        d[n * stride + n] = 0;
+        size = n + 1;
+        matrixVersion++;
+        clearTranspositionTable();
+        return n;
+    }
+
+    public int addStop(List<Integer> distances) {
+        return addStop(distances, distances);
+    }
+
+    // Removes a stop by moving the last stop into its slot, so only one index changes.
+    // Returns the old index of the stop that now lives at `stop`, or -1 if `stop` was the last one.
+    public synchronized int removeStop(int stop) {
+        requireStaticMatrix();
+        int last = size - 1;
+        if (stop < 1 || stop > last) {
+            throw new IllegalArgumentException("Stop must be between 1 and " + last + " (depot cannot be removed)");
+        }
+        if (stop != last) {
+            int[] d = distances;
+            System.arraycopy(d, last * stride, d, stop * stride, size);
+            for (int i = 0; i < last; i++) {
+                d[i * stride + stop] = d[i * stride + last];
+            }
+        }
+        size = last;
+        matrixVersion++;
+        clearTranspositionTable();
+        return stop == last ? -1 : last;
+    }
+
+    private void requireStaticMatrix() {
+        if (travelTimes != null) {
+            throw new IllegalStateException("Clear the time-dependent travel times before adding or removing stops");
+        }
+    }
+
+    // Spare capacity means addStop only copies the matrix when it doubles
+    private void grow(int newStride) {
+        int[] grown = new int[newStride * newStride];
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(distances, i * stride, grown, i * newStride, size);
+        }
+        distances = grown;
+        stride = newStride;
+    }
+
+    public int getDistance(int from, int to) {
+        return distances[from * stride + to];
+    }
+
+    public int getTimeConstraint() {
+        return timeConstraint;
+    }
+
+    // Number of stops, excluding the depot at index 0
+    public int getStopCount() {
+        return size - 1;
+    }
+
+    // Bumped on every addStop/removeStop so caches keyed on the matrix can notice
+    public long getMatrixVersion() {
+        return matrixVersion;
+    }
+
+    // Number of evaluate() calls since this evaluator was created
+    public long getEvaluationCount() {
+        return evaluationCount.sum();
     }
 
     public int calculateTotalRouteTime(Chromosome chromosome) {
-        List<Integer> seq = chromosome.getDeliverySequence();
+        TranspositionTable table = transpositionTable;
+        if (table != null) {
+            int cached = table.probeRouteTime(chromosome.sequenceHash());
+            if (cached >= 0) {
+                return cached;
+            }
+        }
+        return routeTime(chromosome.getDeliverySequence());
+    }
+
+    private int routeTime(List<Integer> seq) {
+        SplitDecoder split = splitDecoder;
+        if (split != null) {
+            return split.evaluate(this, toArray(seq))[0];
+        }
         if (seq.isEmpty() || seq.size() == 1) return 0;
 
+        TimeDependentTravelTimes profiles = travelTimes;
         int totalTime = 0;
+        if (profiles != null) {
+            for (int i = 1; i < seq.size(); i++) {
+                totalTime = profiles.arrival(seq.get(i - 1), seq.get(i), totalTime);
+            }
+            return totalTime;
+        }
+        int[] d = distances;
+        int w = stride;
         for (int i = 0; i < seq.size() - 1; i++) {
             int curr = seq.get(i);
             int next = seq.get(i + 1);
-            totalTime += distanceMatrix.get(curr).get(next);
+            totalTime += d[curr * w + next];
         }
         return totalTime;
     }
@@ -55,13 +385,31 @@ public class FitnessEvaluator {
     public int calculateOnTimeDeliveries(Chromosome chromosome) {
         List<Integer> seq = chromosome.getDeliverySequence();
         if (seq.isEmpty()) return 0;
+        SplitDecoder split = splitDecoder;
+        if (split != null) {
+            return seq.size() - split.evaluate(this, toArray(seq))[2];
+        }
 
+        TimeDependentTravelTimes profiles = travelTimes;
         int currentTime = 0;
         int count = 1;
-
+        if (profiles != null) {
+            // The clock matters: the travel time depends on when the leg starts
+            for (int i = 1; i < seq.size(); i++) {
+                currentTime = profiles.arrival(seq.get(i - 1), seq.get(i), currentTime);
+                if (currentTime > timeConstraint) {
+                    break;
+                }
+                count++;
+            }
+            return count;
+        }
+        int[] d = distances;
+        int w = stride;
         for (int i = 1; i < seq.size(); i++) {
-            int travelTime = distanceMatrix.get(seq.get(i - 1)).get(seq.get(i));
-            currentTime += travelTime;
+            int from = seq.get(i - 1);
+            int to = seq.get(i);
+            currentTime += d[from * w + to];
 
             if (currentTime <= timeConstraint) {
                 count++;
@@ -0,0 +1,229 @@
+package GeneticAlgorithm.Fitness;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Splits a giant tour into vehicle routes, each leaving the depot, serving a contiguous run of the
+// tour and returning, with every route at most durationLimit long. Among all such splits it returns
+// one with the least total duration plus vehicleCost per route (Vidal's linear Split, unlimited fleet).
+//
+// With D[k] the travel time along the tour from stop 1 to stop k, the route serving stops i+1..x costs
+//   d(0, s[i+1]) - D[i+1]  +  D[x] + d(s[x], 0)
+// where the first half depends only on i and the second only on x. The best predecessor of x is
+// therefore the minimum of key(i) = p[i] + vehicleCost + d(0, s[i+1]) - D[i+1] over the start points
+// whose route to x fits the limit: a sliding-window minimum, kept in a monotone deque, O(n) overall.
+// The window only slides forward if travel times obey the triangle inequality; if they do not, the
+// split is still within the limit but may not be the cheapest.
+//
+// A stop that cannot be served within the limit even on its own gets a route of its own that exceeds
+// it; those stops are reported as late.
+public class SplitDecoder {
+
+    private final int durationLimit;
+    private final int vehicleCost;
+    private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+    private volatile DepotLegs depotLegs;
+
+    public SplitDecoder(int durationLimit) {
+        this(durationLimit, 0);
+    }
+
+    // vehicleCost is added per route, in travel-time units, to prefer fewer vehicles
+    public SplitDecoder(int durationLimit, int vehicleCost) {
+        if (durationLimit < 1) {
+            throw new IllegalArgumentException("Duration limit must be at least 1");
+        }
+        if (vehicleCost < 0) {
+            throw new IllegalArgumentException("Vehicle cost must be non-negative");
+        }
+        this.durationLimit = durationLimit;
+        this.vehicleCost = vehicleCost;
+    }
+
+    // Routes of the best split, in tour order
+    public Result split(FitnessEvaluator evaluator, int[] tour) {
+        int n = tour.length;
+        Buffers b = run(evaluator, tour);
+        List<List<Integer>> routes = new ArrayList<>();
+        for (int x = n; x > 0; x = b.pred[x]) {
+            List<Integer> route = new ArrayList<>(x - b.pred[x]);
+            for (int k = b.pred[x]; k < x; k++) {
+                route.add(tour[k]);
+            }
+            routes.add(route);
+        }
+        Collections.reverse(routes);
+        return new Result(routes, b.totalDuration, b.late);
+    }
+
+    // Just the totals, without building the routes: {total duration, vehicles, late stops}
+    int[] evaluate(FitnessEvaluator evaluator, int[] tour) {
+        Buffers b = run(evaluator, tour);
+        return new int[]{(int) Math.min(Integer.MAX_VALUE, b.totalDuration), b.vehicles, b.late};
+    }
+
+    private Buffers run(FitnessEvaluator evaluator, int[] tour) {
+        int n = tour.length;
+        Buffers b = buffers.get();
+        b.ensure(n);
+        long[] prefix = b.prefix; // prefix[k] = D[k], 1-based
+        long[] cost = b.cost;     // cost[x] = best split of the first x stops
+        long[] key = b.key;
+        int[] out = b.out;        // out[k] = d(0, tour[k])
+        int[] back = b.back;      // back[k] = d(tour[k], 0)
+        int[] pred = b.pred;
+        int[] deque = b.deque;
+
+        DepotLegs legs = depotLegs(evaluator);
+        for (int k = 0; k < n; k++) {
+            out[k] = legs.out[tour[k]];
+            back[k] = legs.back[tour[k]];
+        }
+        prefix[1] = 0;
+        for (int k = 2; k <= n; k++) {
+            prefix[k] = prefix[k - 1] + evaluator.getDistance(tour[k - 2], tour[k - 1]);
+        }
+        cost[0] = 0;
+        b.totalDuration = 0;
+        b.vehicles = 0;
+        b.late = 0;
+        if (n == 0) {
+            return b;
+        }
+
+        int head = 0;
+        int tail = 0;
+        key[0] = cost[0] + vehicleCost + out[0] - prefix[1];
+        deque[tail++] = 0;
+        for (int x = 1; x <= n; x++) {
+            long arrival = prefix[x] + back[x - 1];
+            while (head < tail && out[deque[head]] - prefix[deque[head] + 1] + arrival > durationLimit) {
+                head++;
+            }
+            // Nothing fits: the last stop gets a route of its own, over the limit
+            int i = head < tail ? deque[head] : x - 1;
+            cost[x] = key[i] + arrival;
+            pred[x] = i;
+
+            if (x < n) {
+                key[x] = cost[x] + vehicleCost + out[x] - prefix[x + 1];
+                while (head < tail && key[deque[tail - 1]] >= key[x]) {
+                    tail--;
+                }
+                deque[tail++] = x;
+            }
+        }
+
+        for (int x = n; x > 0; x = pred[x]) {
+            int i = pred[x];
+            long duration = out[i] + prefix[x] - prefix[i + 1] + back[x - 1];
+            b.totalDuration += duration;
+            b.vehicles++;
+            if (duration > durationLimit) {
+                b.late += x - i;
+            }
+        }
+        return b;
+    }
+
+    // The depot's row and column, copied once per matrix version: the column is a strided read of the
+    // matrix that every decode would otherwise repeat for every stop
+    private DepotLegs depotLegs(FitnessEvaluator evaluator) {
+        DepotLegs legs = depotLegs;
+        if (legs == null || legs.evaluator != evaluator || legs.matrixVersion != evaluator.getMatrixVersion()) {
+            legs = new DepotLegs(evaluator);
+            depotLegs = legs;
+        }
+        return legs;
+    }
+
+    public int getDurationLimit() {
+        return durationLimit;
+    }
+
+    public int getVehicleCost() {
+        return vehicleCost;
+    }
+
+    private static final class DepotLegs {
+        final FitnessEvaluator evaluator;
+        final long matrixVersion;
+        final int[] out;
+        final int[] back;
+
+        DepotLegs(FitnessEvaluator evaluator) {
+            this.evaluator = evaluator;
+            this.matrixVersion = evaluator.getMatrixVersion();
+            int size = evaluator.getStopCount() + 1;
+            this.out = new int[size];
+            this.back = new int[size];
+            for (int stop = 0; stop < size; stop++) {
+                out[stop] = evaluator.getDistance(0, stop);
+                back[stop] = evaluator.getDistance(stop, 0);
+            }
+        }
+    }
+
+    // Scratch arrays reused across calls on the same thread, so decoding allocates nothing
+    private static final class Buffers {
+        long[] prefix = new long[0];
+        long[] cost = new long[0];
+        long[] key = new long[0];
+        int[] out = new int[0];
+        int[] back = new int[0];
+        int[] pred = new int[0];
+        int[] deque = new int[0];
+        long totalDuration;
+        int vehicles;
+        int late;
+
+        void ensure(int n) {
+            if (prefix.length < n + 2) {
+                int capacity = Math.max(n + 2, prefix.length * 2);
+                prefix = new long[capacity];
+                cost = new long[capacity];
+                key = new long[capacity];
+                out = new int[capacity];
+                back = new int[capacity];
+                pred = new int[capacity];
+                deque = new int[capacity];
+            }
+        }
+    }
+
+    public static class Result {
+        private final List<List<Integer>> routes;
+        private final long totalDuration;
+        private final int lateStops;
+
+        private Result(List<List<Integer>> routes, long totalDuration, int lateStops) {
+            this.routes = routes;
+            this.totalDuration = totalDuration;
+            this.lateStops = lateStops;
+        }
+
+        public List<List<Integer>> getRoutes() {
+            return routes;
+        }
+
+        public int getVehicleCount() {
+            return routes.size();
+        }
+
+        public long getTotalDuration() {
+            return totalDuration;
+        }
+
+        // Stops on routes over the duration limit (only stops that cannot fit even alone)
+        public int getLateStops() {
+            return lateStops;
+        }
+
+        @Override
+        public String toString() {
+            return "Split{vehicles=" + routes.size() + ", total duration=" + totalDuration +
+                    ", late stops=" + lateStops + "}";
+        }
+    }
+}
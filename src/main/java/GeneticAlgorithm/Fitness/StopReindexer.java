@@ -0,0 +1,291 @@
+package GeneticAlgorithm.Fitness;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// Renumbers stops so that stops close to each other on the map get close indices, which puts the
+// distances a tour reads one after another on nearby cache lines of FitnessEvaluator's flat matrix.
+// Only pays off when the matrix is much larger than the CPU caches.
+//
+// Usage: build the evaluator from apply(matrix), solve as usual, then translate the result back with
+// toOriginal(best.getDeliverySequence()). The depot always keeps index 0. Nothing in Main or Apis does
+// this for you: the caller that owns the matrix and reports the sequences wires it in.
+public final class StopReindexer {
+
+    private static final int HILBERT_ORDER = 16; // 2^16 x 2^16 grid
+    private static final int DEFAULT_NEIGHBOURS = 8;
+
+    private final int[] newToOld;
+    private final int[] oldToNew;
+
+    private StopReindexer(int[] newToOld) {
+        this.newToOld = newToOld;
+        this.oldToNew = new int[newToOld.length];
+        for (int i = 0; i < newToOld.length; i++) {
+            oldToNew[newToOld[i]] = i;
+        }
+    }
+
+    public static StopReindexer identity(int size) {
+        return new StopReindexer(IntStream.range(0, size).toArray());
+    }
+
+    // Orders stops along a Hilbert curve through their coordinates; x[0], y[0] is the depot
+    public static StopReindexer hilbert(double[] x, double[] y) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("Got " + x.length + " x and " + y.length + " y coordinates");
+        }
+        int size = x.length;
+        if (size < 3) {
+            return identity(size);
+        }
+        double minX = Arrays.stream(x).min().getAsDouble();
+        double minY = Arrays.stream(y).min().getAsDouble();
+        double span = Math.max(Arrays.stream(x).max().getAsDouble() - minX,
+                Arrays.stream(y).max().getAsDouble() - minY);
+        double scale = span > 0 ? ((1 << HILBERT_ORDER) - 1) / span : 0.0;
+
+        // Curve position in the high bits, old index in the low bits, so one sort orders the stops
+        long[] keys = IntStream.range(1, size).parallel().mapToLong(i -> {
+            int gx = (int) ((x[i] - minX) * scale);
+            int gy = (int) ((y[i] - minY) * scale);
+            return (hilbertIndex(gx, gy) << 31) | i;
+        }).toArray();
+        Arrays.parallelSort(keys);
+
+        int[] newToOld = new int[size];
+        for (int i = 0; i < keys.length; i++) {
+            newToOld[i + 1] = (int) (keys[i] & Integer.MAX_VALUE);
+        }
+        return new StopReindexer(newToOld);
+    }
+
+    public static StopReindexer reverseCuthillMcKee(List<? extends List<Integer>> matrix) {
+        return reverseCuthillMcKee(matrix, DEFAULT_NEIGHBOURS);
+    }
+
+    // Bandwidth-reducing order from the matrix alone, for when there are no coordinates.
+    // Builds a graph linking each stop to its `neighbours` nearest stops (by d(a, b) + d(b, a)) and
+    // runs reverse Cuthill-McKee on it, one connected component at a time.
+    public static StopReindexer reverseCuthillMcKee(List<? extends List<Integer>> matrix, int neighbours) {
+        if (neighbours < 1) {
+            throw new IllegalArgumentException("Neighbour count must be at least 1");
+        }
+        int size = matrix.size();
+        int stops = size - 1;
+        if (stops < 2) {
+            return identity(size);
+        }
+        int[][] graph = nearestNeighbourGraph(matrix, Math.min(neighbours, stops - 1));
+
+        // graph is over stops 0..stops-1, i.e. matrix index - 1
+        boolean[] visited = new boolean[stops];
+        int[] order = new int[stops];
+        int filled = 0;
+        Integer[] byDegree = new Integer[stops];
+        for (int i = 0; i < stops; i++) {
+            byDegree[i] = i;
+        }
+        Arrays.sort(byDegree, (a, b) -> Integer.compare(graph[a].length, graph[b].length));
+        for (int seed : byDegree) {
+            if (!visited[seed]) {
+                filled = cuthillMcKee(graph, peripheralNode(graph, seed), visited, order, filled);
+            }
+        }
+
+        int[] newToOld = new int[size];
+        for (int i = 0; i < stops; i++) {
+            newToOld[i + 1] = order[stops - 1 - i] + 1;
+        }
+        return new StopReindexer(newToOld);
+    }
+
+    // A copy of `matrix` with rows and columns in the new order
+    public ArrayList<ArrayList<Integer>> apply(List<? extends List<Integer>> matrix) {
+        if (matrix.size() != newToOld.length) {
+            throw new IllegalArgumentException("Matrix has " + matrix.size() + " rows, reindexer expects " + newToOld.length);
+        }
+        ArrayList<ArrayList<Integer>> permuted = new ArrayList<>(newToOld.length);
+        for (int oldRow : newToOld) {
+            List<Integer> source = matrix.get(oldRow);
+            ArrayList<Integer> row = new ArrayList<>(newToOld.length);
+            for (int oldColumn : newToOld) {
+                row.add(source.get(oldColumn));
+            }
+            permuted.add(row);
+        }
+        return permuted;
+    }
+
+    public int toNew(int oldIndex) {
+        return oldToNew[oldIndex];
+    }
+
+    public int toOld(int newIndex) {
+        return newToOld[newIndex];
+    }
+
+    // Translates a delivery sequence over the reindexed matrix back to the caller's numbering
+    public List<Integer> toOriginal(List<Integer> sequence) {
+        List<Integer> translated = new ArrayList<>(sequence.size());
+        for (int stop : sequence) {
+            translated.add(newToOld[stop]);
+        }
+        return translated;
+    }
+
+    // Translates a delivery sequence in the caller's numbering to the reindexed matrix, e.g. to seed a run
+    public List<Integer> toReindexed(List<Integer> sequence) {
+        List<Integer> translated = new ArrayList<>(sequence.size());
+        for (int stop : sequence) {
+            translated.add(oldToNew[stop]);
+        }
+        return translated;
+    }
+
+    public int size() {
+        return newToOld.length;
+    }
+
+    // Position of (x, y) along the Hilbert curve filling the 2^HILBERT_ORDER grid
+    static long hilbertIndex(int x, int y) {
+        long d = 0;
+        for (int s = 1 << (HILBERT_ORDER - 1); s > 0; s >>= 1) {
+            int rx = (x & s) > 0 ? 1 : 0;
+            int ry = (y & s) > 0 ? 1 : 0;
+            d += (long) s * s * ((3 * rx) ^ ry);
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = s - 1 - x;
+                    y = s - 1 - y;
+                }
+                int t = x;
+                x = y;
+                y = t;
+            }
+        }
+        return d;
+    }
+
+    // Symmetrised k-nearest-neighbour lists over the stops (depot excluded), built in parallel
+    private static int[][] nearestNeighbourGraph(List<? extends List<Integer>> matrix, int k) {
+        int stops = matrix.size() - 1;
+        int[][] nearest = IntStream.range(0, stops).parallel().mapToObj(a -> {
+            List<Integer> row = matrix.get(a + 1);
+            int[] ids = new int[k];
+            long[] dist = new long[k];
+            Arrays.fill(dist, Long.MAX_VALUE);
+            for (int b = 0; b < stops; b++) {
+                if (b == a) {
+                    continue;
+                }
+                long distance = (long) row.get(b + 1) + matrix.get(b + 1).get(a + 1);
+                if (distance >= dist[k - 1]) {
+                    continue;
+                }
+                // Insertion into the sorted top-k
+                int pos = k - 1;
+                while (pos > 0 && dist[pos - 1] > distance) {
+                    dist[pos] = dist[pos - 1];
+                    ids[pos] = ids[pos - 1];
+                    pos--;
+                }
+                dist[pos] = distance;
+                ids[pos] = b;
+            }
+            return ids;
+        }).toArray(int[][]::new);
+
+        int[] degree = new int[stops];
+        for (int a = 0; a < stops; a++) {
+            for (int b : nearest[a]) {
+                degree[a]++;
+                degree[b]++;
+            }
+        }
+        int[][] graph = new int[stops][];
+        for (int a = 0; a < stops; a++) {
+            graph[a] = new int[degree[a]];
+        }
+        int[] filled = new int[stops];
+        for (int a = 0; a < stops; a++) {
+            for (int b : nearest[a]) {
+                graph[a][filled[a]++] = b;
+                graph[b][filled[b]++] = a;
+            }
+        }
+        // Mutual neighbours were added twice
+        for (int a = 0; a < stops; a++) {
+            graph[a] = Arrays.stream(graph[a]).distinct().toArray();
+        }
+        return graph;
+    }
+
+    // Repeatedly jumps to the lowest-degree node of the last BFS level while the eccentricity grows
+    private static int peripheralNode(int[][] graph, int start) {
+        int[] level = new int[graph.length];
+        int current = start;
+        int eccentricity = -1;
+        while (true) {
+            Arrays.fill(level, -1);
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            queue.add(current);
+            level[current] = 0;
+            int deepest = 0;
+            int candidate = current;
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                if (level[node] > deepest ||
+                        (level[node] == deepest && graph[node].length < graph[candidate].length)) {
+                    deepest = level[node];
+                    candidate = node;
+                }
+                for (int next : graph[node]) {
+                    if (level[next] < 0) {
+                        level[next] = level[node] + 1;
+                        queue.add(next);
+                    }
+                }
+            }
+            if (deepest <= eccentricity) {
+                return current;
+            }
+            eccentricity = deepest;
+            current = candidate;
+        }
+    }
+
+    // Breadth-first from `start`, visiting each node's unvisited neighbours by ascending degree
+    private static int cuthillMcKee(int[][] graph, int start, boolean[] visited, int[] order, int filled) {
+        int head = filled;
+        order[filled++] = start;
+        visited[start] = true;
+        while (head < filled) {
+            int node = order[head++];
+            int from = filled;
+            for (int next : graph[node]) {
+                if (!visited[next]) {
+                    visited[next] = true;
+                    order[filled++] = next;
+                }
+            }
+            sortByDegree(graph, order, from, filled);
+        }
+        return filled;
+    }
+
+    private static void sortByDegree(int[][] graph, int[] order, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int node = order[i];
+            int j = i - 1;
+            while (j >= from && graph[order[j]].length > graph[node].length) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = node;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package GeneticAlgorithm.Fitness;
+
+import java.util.Arrays;
+
+// Travel times that depend on the departure time. A leg either uses the static matrix entry or a
+// piecewise-linear profile: travel time travelTimes[k] when leaving at departures[k], linear in
+// between, constant before the first and after the last breakpoint.
+//
+// Profiles are packed into one int[] pool as [count, free-flow time, departures..., travel times...,
+// slopes...], the slope of each segment precomputed in 16.16 fixed point so a lookup needs no division.
+// legs[from * size + to] is the leg's position in the pool, or ~freeFlow (always negative) for a static
+// leg. A static leg therefore costs one int, like the static matrix, and a lookup is one binary search
+// over a short contiguous run.
+//
+// Every profile must be FIFO (leaving later never arrives earlier) and must never be faster than the
+// static matrix entry. The static matrix then stays a valid free-flow lower bound for the bounds and
+// for the delta evaluations of the local searches.
+public class TimeDependentTravelTimes {
+
+    private final int size;
+    private final int[] legs;
+    private int[] pool = new int[64];
+    private int poolSize = 0;
+    private int profiledLegs = 0;
+
+    // Starts with every leg static, copying the evaluator's current matrix as the free-flow times
+    public TimeDependentTravelTimes(FitnessEvaluator evaluator) {
+        this.size = evaluator.getStopCount() + 1;
+        this.legs = new int[size * size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                legs[i * size + j] = ~evaluator.getDistance(i, j);
+            }
+        }
+    }
+
+    // Replaces the profile of one leg. Departure times must be strictly increasing.
+    public void setProfile(int from, int to, int[] departures, int[] travelTimes) {
+        checkLeg(from, to);
+        if (departures.length == 0 || departures.length != travelTimes.length) {
+            throw new IllegalArgumentException("Need the same non-zero number of departures and travel times, got " +
+                    departures.length + " and " + travelTimes.length);
+        }
+        int leg = from * size + to;
+        int floor = freeFlow(leg);
+        for (int k = 0; k < departures.length; k++) {
+            if (travelTimes[k] < floor) {
+                throw new IllegalArgumentException("Travel time " + travelTimes[k] + " at " + departures[k] +
+                        " is below the free-flow time " + floor + " of leg " + from + " -> " + to);
+            }
+            if (k > 0) {
+                if (departures[k] <= departures[k - 1]) {
+                    throw new IllegalArgumentException("Departure times must be strictly increasing");
+                }
+                // FIFO: arrival times must not decrease, i.e. no slope below -1
+                if ((long) departures[k] + travelTimes[k] < (long) departures[k - 1] + travelTimes[k - 1]) {
+                    throw new IllegalArgumentException("Profile of leg " + from + " -> " + to +
+                            " is not FIFO between departures " + departures[k - 1] + " and " + departures[k]);
+                }
+                if (Math.abs(slope(departures, travelTimes, k)) > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Profile of leg " + from + " -> " + to +
+                            " changes too steeply between departures " + departures[k - 1] + " and " + departures[k]);
+                }
+            }
+        }
+
+        // The old run, if any, stays in the pool as garbage; compact() reclaims it
+        int k = departures.length;
+        int length = runLength(k);
+        ensurePool(poolSize + length);
+        int start = poolSize;
+        pool[start] = k;
+        pool[start + 1] = floor;
+        System.arraycopy(departures, 0, pool, start + 2, k);
+        System.arraycopy(travelTimes, 0, pool, start + 2 + k, k);
+        for (int i = 1; i < k; i++) {
+            pool[start + 2 + 2 * k + i - 1] = (int) slope(departures, travelTimes, i);
+        }
+        poolSize += length;
+        if (legs[leg] < 0) {
+            profiledLegs++;
+        }
+        legs[leg] = start;
+    }
+
+    // Back to the static matrix entry
+    public void clearProfile(int from, int to) {
+        checkLeg(from, to);
+        int leg = from * size + to;
+        if (legs[leg] >= 0) {
+            legs[leg] = ~freeFlow(leg);
+            profiledLegs--;
+        }
+    }
+
+    public int travelTime(int from, int to, int departure) {
+        int start = legs[from * size + to];
+        if (start < 0) {
+            return ~start;
+        }
+        int[] p = pool;
+        int k = p[start];
+        int first = start + 2;
+        int times = first + k;
+        if (departure <= p[first]) {
+            return p[times];
+        }
+        if (departure >= p[first + k - 1]) {
+            return p[times + k - 1];
+        }
+        // Last breakpoint at or before the departure; the run is short and contiguous
+        int lo = 0;
+        int hi = k - 1;
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            if (p[first + mid] <= departure) {
+                lo = mid;
+            } else {
+                hi = mid;
+            }
+        }
+        // A fixed-point slope of at least -1 keeps the rounded arrival times FIFO. Rounding down can
+        // land one below a segment ending at the free-flow time, so clamp to it (still FIFO).
+        long slope = p[times + k + lo];
+        int travelTime = p[times + lo] + (int) ((slope * (departure - p[first + lo])) >> 16);
+        return Math.max(p[start + 1], travelTime);
+    }
+
+    // Slope of segment i - 1 .. i in 16.16 fixed point, rounded down
+    private static long slope(int[] departures, int[] travelTimes, int i) {
+        long rise = (long) travelTimes[i] - travelTimes[i - 1];
+        long run = (long) departures[i] - departures[i - 1];
+        return Math.floorDiv(rise << 16, run);
+    }
+
+    private static int runLength(int breakpoints) {
+        return 2 + 3 * breakpoints - 1;
+    }
+
+    public int arrival(int from, int to, int departure) {
+        return departure + travelTime(from, to, departure);
+    }
+
+    // Rewrites the pool without the runs that setProfile() replaced
+    public void compact() {
+        int live = 0;
+        for (int start : legs) {
+            if (start >= 0) {
+                live += runLength(pool[start]);
+            }
+        }
+        int[] packed = new int[Math.max(64, live)];
+        int filled = 0;
+        for (int leg = 0; leg < legs.length; leg++) {
+            int start = legs[leg];
+            if (start >= 0) {
+                int length = runLength(pool[start]);
+                System.arraycopy(pool, start, packed, filled, length);
+                legs[leg] = filled;
+                filled += length;
+            }
+        }
+        pool = packed;
+        poolSize = filled;
+    }
+
+    // Number of stops + 1 (the depot), as in the matrix
+    public int size() {
+        return size;
+    }
+
+    public int getProfiledLegCount() {
+        return profiledLegs;
+    }
+
+    // Ints held by the lookup tables, for comparing with the size * size of the static matrix
+    public long getMemoryInts() {
+        return (long) legs.length + pool.length;
+    }
+
+    // The static matrix entry, whether or not the leg has a profile
+    public int freeFlow(int from, int to) {
+        checkLeg(from, to);
+        return freeFlow(from * size + to);
+    }
+
+    private int freeFlow(int leg) {
+        int start = legs[leg];
+        return start < 0 ? ~start : pool[start + 1];
+    }
+
+    private void ensurePool(int required) {
+        if (required > pool.length) {
+            pool = Arrays.copyOf(pool, Math.max(required, pool.length * 2));
+        }
+    }
+
+    private void checkLeg(int from, int to) {
+        if (from < 0 || from >= size || to < 0 || to >= size || from == to) {
+            throw new IllegalArgumentException("Invalid leg " + from + " -> " + to + " for " + size + " locations");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package GeneticAlgorithm.Fitness;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Bounded cache from a tour's ZobristHash to its fitness and route time, so converged populations
+// don't pay to evaluate the same tour over and over.
+// Lockless: each slot holds (check, fitness bits, route time) with check = hash ^ fitness ^ route time.
+// A slot torn by two concurrent writers fails the check and reads as a miss, so no locking is needed.
+// Always-replace: a new entry overwrites whatever shared its slot.
+public class TranspositionTable {
+
+    private static final int SLOT_WIDTH = 3;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public TranspositionTable() {
+        this(1 << 16);
+    }
+
+    // Capacity is rounded up to a power of two
+    public TranspositionTable(int capacity) {
+        if (capacity < 1 || capacity > (1 << 26)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + (1 << 26));
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.slots = new AtomicLongArray(size * SLOT_WIDTH);
+    }
+
+    // Cached fitness for this hash, or NaN if absent
+    public double probeFitness(long hash) {
+        int base = slotOf(hash);
+        long fitnessBits = slots.get(base + 1);
+        long routeTime = slots.get(base + 2);
+        if (hash == 0L || slots.get(base) != (hash ^ fitnessBits ^ routeTime)) {
+            misses.increment();
+            return Double.NaN;
+        }
+        hits.increment();
+        return Double.longBitsToDouble(fitnessBits);
+    }
+
+    // Cached route time for this hash, or -1 if absent
+    public int probeRouteTime(long hash) {
+        int base = slotOf(hash);
+        long fitnessBits = slots.get(base + 1);
+        long routeTime = slots.get(base + 2);
+        if (hash == 0L || slots.get(base) != (hash ^ fitnessBits ^ routeTime)) {
+            return -1;
+        }
+        return (int) routeTime;
+    }
+
+    public void store(long hash, double fitness, int routeTime) {
+        // Hash 0 is what an empty slot verifies as, so it is never cached
+        if (hash == 0L) {
+            return;
+        }
+        int base = slotOf(hash);
+        long fitnessBits = Double.doubleToRawLongBits(fitness);
+        slots.set(base + 1, fitnessBits);
+        slots.set(base + 2, routeTime);
+        slots.set(base, hash ^ fitnessBits ^ routeTime);
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, 0L);
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    private int slotOf(long hash) {
+        return (int) ((hash ^ (hash >>> 32)) & mask) * SLOT_WIDTH;
+    }
+}
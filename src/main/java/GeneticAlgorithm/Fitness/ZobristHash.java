@@ -0,0 +1,33 @@
+package GeneticAlgorithm.Fitness;
+
+import java.util.List;
+
+// 64-bit Zobrist-style hash of a delivery sequence: the XOR of one pseudo-random key per
+// (position, stop) pair. Keys are derived on the fly with a splitmix64 finalizer, so there is no
+// table to size or regrow when stops are added. Editing a few positions only needs the keys of
+// those positions, e.g. a swap is four XORs.
+public final class ZobristHash {
+
+    private ZobristHash() {
+    }
+
+    public static long key(int position, int stop) {
+        long z = ((long) position << 32 | (stop & 0xFFFFFFFFL)) + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static long hash(List<Integer> sequence) {
+        long h = 0L;
+        for (int i = 0; i < sequence.size(); i++) {
+            h ^= key(i, sequence.get(i));
+        }
+        return h;
+    }
+
+    // XOR this into the hash when the stops at positions i and j (currently a and b) trade places
+    public static long swapDelta(int i, int a, int j, int b) {
+        return key(i, a) ^ key(j, b) ^ key(i, b) ^ key(j, a);
+    }
+}
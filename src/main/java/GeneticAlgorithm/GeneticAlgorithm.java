@@ -5,9 +5,32 @@ import GeneticAlgorithm.Crossover.*;
 import GeneticAlgorithm.Fitness.*;
 import GeneticAlgorithm.Selection.*;
 import GeneticAlgorithm.Replacement.*;
+import GeneticAlgorithm.Progress.*;
+import GeneticAlgorithm.Profiling.*;
+import GeneticAlgorithm.Incremental.IncrementalUpdater;
+import GeneticAlgorithm.Archive.EliteArchive;
+import GeneticAlgorithm.Diversity.DiversityResponse;
+import GeneticAlgorithm.Diversity.DiversityTracker;
+import GeneticAlgorithm.Population.RankedPopulation;
+import GeneticAlgorithm.Population.RunningStatistics;
+import GeneticAlgorithm.Helpers.DoubleSeries;
+import GeneticAlgorithm.Mutation.*;
+import GeneticAlgorithm.Adaptive.AdaptiveController;
+import GeneticAlgorithm.Bounds.ObjectiveBound;
+import GeneticAlgorithm.Solvers.BitmaskDpSolver;
+import GeneticAlgorithm.Solvers.StopToken;
+import GeneticAlgorithm.Surrogate.SurrogateScreen;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class GeneticAlgorithm {
     
@@ -24,18 +47,50 @@ public class GeneticAlgorithm {
     private Crossover crossoverOperator;
     private ReplacementStrategy replacementStrategy;
     private int floatingPointMutationMethod = 1; // 1 = uniform (mutateMethod1), 2 = non-uniform (mutateMethod2)
+    private Mutation mutationOperator;
+    private AdaptiveController adaptiveController;
+    private SurrogateScreen surrogate;
     
-    private List<Chromosome> population;
+    private RankedPopulation population;
     private Chromosome bestSolution;
-    private List<Double> fitnessHistory;
+    private volatile Chromosome bestSnapshot; // private copy of bestSolution for other threads
+    private final DoubleSeries fitnessHistory = new DoubleSeries();
     private boolean initialized = false;
+    private long objectiveVersion; // evaluator matrix version the population was scored against
+    
+    private final List<ProgressListener> progressListeners = new CopyOnWriteArrayList<>();
+    private boolean verbose = true;
+    private volatile StopToken stopToken = new StopToken(); // the run in progress, or the next one
+    private final GaProfiler profiler = new GaProfiler();
+    
+    private EliteArchive eliteArchive;
+    private String depotId;
+    private List<String> stopIds;
+    
+    private static final int RESTART_COOLDOWN = 10;
+    private static final double MUTATION_BOOST_FACTOR = 5.0;
+    private static final double MAX_BOOSTED_MUTATION_RATE = 0.5;
+    
+    private final DiversityTracker diversityTracker = new DiversityTracker();
+    private final DoubleSeries diversityHistory = new DoubleSeries();
+    private double diversityThreshold = 0.0;
+    private DiversityResponse diversityResponse = DiversityResponse.NONE;
+    private boolean mutationBoosted = false;
+    private int lastRestartGeneration = Integer.MIN_VALUE / 2;
+    private int restarts = 0;
+    
+    private int exactSolverThreshold = 15;
+    private boolean boundingEnabled = false;
+    private ObjectiveBound objectiveBound;
+    private CompletableFuture<ObjectiveBound> pendingBound;
+    private double optimalityGap = -1.0;
+    private boolean provedOptimal = false;
     
     public enum ChromosomeType {
         BINARY, INTEGER, FLOATING_POINT
     }
     
     public GeneticAlgorithm() {
-        this.fitnessHistory = new ArrayList<>();
         this.selectionMethod = new TournamentSelection(3);
         this.replacementStrategy = new ElitistReplacement(1);
     }
@@ -46,10 +101,17 @@ public class GeneticAlgorithm {
         }
         
         Initializer initializer = new Initializer();
-        int typeChoice = chromosomeType == ChromosomeType.BINARY ? 1 :
-                        chromosomeType == ChromosomeType.INTEGER ? 2 : 3;
+        int typeChoice = typeChoice();
         
-        population = initializer.init(typeChoice, chromosomeLength, populationSize);
+        if (eliteArchive != null) {
+            List<List<Integer>> seeds = loadArchivedSeeds();
+            population = new RankedPopulation(initializer.initSeeded(typeChoice, chromosomeLength, populationSize, seeds, fitnessFunction));
+            if (verbose) {
+                System.out.println("Seeded " + Math.min(seeds.size(), populationSize) + " individuals from the elite archive");
+            }
+        } else {
+            population = new RankedPopulation(initializer.init(typeChoice, chromosomeLength, populationSize));
+        }
         
         if (crossoverOperator == null) {
             switch (chromosomeType) {
@@ -65,76 +127,574 @@ public class GeneticAlgorithm {
             }
         }
         
-        for (Chromosome chromosome : population) {
-            chromosome.getFitness();
+        if (mutationOperator == null) {
+            if (chromosomeType == ChromosomeType.FLOATING_POINT) {
+                mutationOperator = floatingPointMutationMethod == 1 ? new UniformMutation() : new NonUniformMutation();
+            } else {
+                mutationOperator = new SwapMutation();
+            }
         }
         
-        bestSolution = findBest(population);
+        setBestSolution(population.best());
+        objectiveVersion = fitnessFunction.getMatrixVersion();
+        diversityTracker.reset();
+        diversityTracker.update(population);
         initialized = true;
     }
     
+    private int typeChoice() {
+        return chromosomeType == ChromosomeType.BINARY ? 1 :
+                chromosomeType == ChromosomeType.INTEGER ? 2 : 3;
+    }
+    
     public void run() {
+        run(0L, false, stopToken);
+    }
+    
+    // Runs until done or until `stop` is tripped; requestStop() trips it too while the run lasts.
+    // Each run gets its own token, so stopping a run that already ended has no effect on the next.
+    public void run(StopToken stop) {
+        if (stop == null) {
+            throw new IllegalArgumentException("Stop token cannot be null");
+        }
+        run(0L, false, stop);
+    }
+    
+    // Anytime variant: stops once the budget (initialization included) is spent, or after the
+    // configured generations if that comes first. The deadline is checked between generations, and a
+    // generation is not started when one as long as the previous would overrun it.
+    public void run(Duration budget) {
+        if (budget == null || budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("Time budget must be positive");
+        }
+        run(System.nanoTime() + budget.toNanos(), true, stopToken);
+    }
+    
+    private void run(long deadlineNanos, boolean timed, StopToken stop) {
+        stopToken = stop;
+        // The DP assumes a single tour over static travel times
+        boolean exact = chromosomeLength <= exactSolverThreshold &&
+                (fitnessFunction == null || fitnessFunction.isSingleStaticTour());
+        if (!exact) {
+            startBoundComputation();
+        }
         if (!initialized) {
             initialize();
+        } else if (fitnessFunction.getMatrixVersion() != objectiveVersion) {
+            rescorePopulation();
+        }
+        if (exact) {
+            solveExactly();
+            return;
         }
         
-        System.out.println("\n=== Starting Genetic Algorithm ===");
-        System.out.println("Population Size: " + populationSize);
-        System.out.println("Generations: " + generations);
-        System.out.println("GeneticAlgorithm.Crossover Rate: " + crossoverRate);
-        System.out.println("Mutation Rate: " + mutationRate);
-        System.out.println("GeneticAlgorithm.Selection: " + selectionMethod.getClass().getSimpleName());
-        System.out.println("GeneticAlgorithm.Replacement: " + replacementStrategy.getClass().getSimpleName());
-        System.out.println("Initial Best GeneticAlgorithm.Fitness: " + bestSolution.getFitness());
+        if (verbose) {
+            System.out.println("\n=== Starting Genetic Algorithm ===");
+            System.out.println("Population Size: " + populationSize);
+            System.out.println("Generations: " + generations);
+            if (timed) {
+                System.out.println("Time budget: " + Math.max(0L, (deadlineNanos - System.nanoTime()) / 1_000_000L) + " ms left");
+            }
+            System.out.println("GeneticAlgorithm.Crossover Rate: " + crossoverRate);
+            System.out.println("Mutation Rate: " + mutationRate);
+            System.out.println("GeneticAlgorithm.Selection: " + selectionMethod.getClass().getSimpleName());
+            System.out.println("GeneticAlgorithm.Replacement: " + replacementStrategy.getClass().getSimpleName());
+            System.out.println("Initial Best GeneticAlgorithm.Fitness: " + bestSolution.getFitness());
+        }
         
-        for (int gen = 0; gen < generations; gen++) {
-            List<Chromosome> offspring = createOffspring(gen, generations);
+        long startNanos = System.nanoTime();
+        long startEvaluations = fitnessFunction.getEvaluationCount();
+        profiler.setEvaluationCounter(fitnessFunction::getEvaluationCount);
+        if (adaptiveController != null) {
+            adaptiveController.start(crossoverRate, mutationRate);
+        }
+        ProgressEvent lastEvent = null;
+        int completedGenerations = 0;
+        boolean budgetSpent = false;
+        provedOptimal = false;
+        long generationStartNanos = System.nanoTime();
+        long lastGenerationNanos = 0L;
+        
+        for (int gen = 0; gen < generations && !stop.isStopRequested() && !provedOptimal; gen++) {
+            if (timed) {
+                long now = System.nanoTime();
+                if (gen > 0) {
+                    lastGenerationNanos = now - generationStartNanos;
+                }
+                generationStartNanos = now;
+                if (now + lastGenerationNanos - deadlineNanos > 0) {
+                    budgetSpent = true;
+                    break;
+                }
+            }
+            GenerationJfrEvent jfrEvent = new GenerationJfrEvent();
+            jfrEvent.begin();
+            long jfrStartEvaluations = jfrEvent.isEnabled() ? fitnessFunction.getEvaluationCount() : 0L;
+            profiler.beginGeneration();
+            List<Chromosome> offspring;
+            if (adaptiveController != null) {
+                offspring = createAdaptiveOffspring(gen, generations);
+            } else if (surrogate != null) {
+                offspring = createScreenedOffspring(gen, generations);
+            } else {
+                offspring = createOffspring(gen, generations);
+            }
+            if (adaptiveController != null) {
+                adaptiveController.endGeneration();
+            }
             
-            population = replacementStrategy.replace(population, offspring);
+            long t = profiler.start();
+            replacementStrategy.replaceInPlace(population, offspring);
+            profiler.lap(Phase.REPLACEMENT, t);
+            profiler.endGeneration(gen + 1);
             
-            Chromosome currentBest = findBest(population);
-            if (currentBest.getFitness() > bestSolution.getFitness()) {
-                bestSolution = currentBest.clone();
+            Chromosome currentBest = population.best();
+            if (currentBest.getFitness() > bestSolution.getFitness()
+                    || (currentBest.getFitness() == bestSolution.getFitness()
+                    && currentBest.getTotalRouteTime() < bestSolution.getTotalRouteTime())) {
+                setBestSolution(currentBest.clone());
             }
+            updateOptimalityGap();
+            
+            fitnessHistory.add(currentBest.getFitness());
+            double diversity = diversityTracker.update(population);
+            diversityHistory.add(diversity);
+            respondToDiversity(diversity, gen + 1);
+            completedGenerations++;
             
-            fitnessHistory.add((double) currentBest.getFitness());
+            jfrEvent.end();
+            if (jfrEvent.shouldCommit()) {
+                jfrEvent.generation = gen + 1;
+                jfrEvent.bestFitness = currentBest.getFitness();
+                jfrEvent.bestSoFar = bestSolution.getFitness();
+                jfrEvent.evaluations = fitnessFunction.getEvaluationCount() - jfrStartEvaluations;
+                jfrEvent.populationSize = population.size();
+                jfrEvent.commit();
+            }
             
-            if ((gen + 1) % 10 == 0 || gen == 0 || gen == generations - 1) {
-                System.out.println("Generation " + (gen + 1) + 
-                                 " - Best GeneticAlgorithm.Fitness: " + currentBest.getFitness() +
-                                 " - Avg GeneticAlgorithm.Fitness: " + String.format("%.2f", getAverageFitness()));
+            // Only build the event (and pay for the average) when somebody is listening
+            if (!progressListeners.isEmpty()) {
+                lastEvent = new ProgressEvent(gen + 1, generations, currentBest.getFitness(),
+                        bestSolution.getFitness(), getAverageFitness(),
+                        fitnessFunction.getEvaluationCount() - startEvaluations,
+                        System.nanoTime() - startNanos, diversity, optimalityGap);
+                for (ProgressListener listener : progressListeners) {
+                    listener.onGeneration(lastEvent);
+                }
             }
         }
         
-        System.out.println("\n=== Genetic Algorithm Completed ===");
-        System.out.println("Final Best GeneticAlgorithm.Fitness: " + bestSolution.getFitness());
-        System.out.println("Best Solution: " + bestSolution.getDeliverySequence());
+        if (verbose) {
+            if (stop.isStopRequested()) {
+                System.out.println("\nStop requested - finishing after generation " + completedGenerations);
+            } else if (budgetSpent) {
+                System.out.println("\nTime budget spent - finishing after generation " + completedGenerations);
+            } else if (provedOptimal) {
+                System.out.println("\nBest solution matches the bound (" + objectiveBound + ") - optimal after generation " +
+                        completedGenerations);
+            }
+        }
+        finishRun(lastEvent);
+    }
+    
+    private void finishRun(ProgressEvent lastEvent) {
+        stopToken = new StopToken();
+        mutationBoosted = false;
+        for (ProgressListener listener : progressListeners) {
+            listener.onCompleted(lastEvent);
+        }
+        
+        if (eliteArchive != null) {
+            archiveElites();
+        }
+        
+        if (verbose) {
+            System.out.println("\n=== Genetic Algorithm Completed ===");
+            System.out.println("Final Best GeneticAlgorithm.Fitness: " + bestSolution.getFitness());
+            System.out.println("Best Solution: " + bestSolution.getDeliverySequence());
+        }
+    }
+    
+    // ==================== Diversity control ====================
+    
+    // When diversity (see DiversityTracker) drops below threshold, apply the response. A threshold of
+    // 0 only tracks diversity.
+    public void setDiversityControl(double threshold, DiversityResponse response) {
+        if (threshold < 0.0 || threshold > 1.0) {
+            throw new IllegalArgumentException("Diversity threshold must be between 0.0 and 1.0");
+        }
+        if (response == null) {
+            throw new IllegalArgumentException("Diversity response cannot be null");
+        }
+        this.diversityThreshold = threshold;
+        this.diversityResponse = response;
+    }
+    
+    private void respondToDiversity(double diversity, int generation) {
+        boolean low = diversity < diversityThreshold;
+        if (diversityResponse == DiversityResponse.MUTATION_BOOST) {
+            mutationBoosted = low;
+        } else if (diversityResponse == DiversityResponse.RESTART && low
+                && generation - lastRestartGeneration >= RESTART_COOLDOWN) {
+            restartKeepingElites();
+            lastRestartGeneration = generation;
+        }
+    }
+    
+    // Keeps the best max(eliteCount, 1) individuals and re-randomizes the rest of the population
+    private void restartKeepingElites() {
+        int keep = Math.min(Math.max(eliteCount, 1), populationSize - 1);
+        List<Chromosome> restarted = population.top(keep);
+        restarted.addAll(new Initializer().init(typeChoice(), chromosomeLength, populationSize - keep));
+        population = new RankedPopulation(restarted);
+        restarts++;
+        if (verbose) {
+            System.out.println("Diversity " + String.format("%.3f", diversityTracker.getDiversity()) +
+                    " below " + diversityThreshold + " - restarted population keeping " + keep + " elite(s)");
+        }
+        diversityTracker.update(population);
+    }
+    
+    // ==================== Exact solver ====================
+    
+    // Instances with at most this many stops are solved exactly by BitmaskDpSolver instead of evolved,
+    // unless the objective is time-dependent or split into routes; 0 always runs the GA
+    public void setExactSolverThreshold(int exactSolverThreshold) {
+        if (exactSolverThreshold < 0 || exactSolverThreshold > BitmaskDpSolver.MAX_STOPS) {
+            throw new IllegalArgumentException("Exact solver threshold must be between 0 and " + BitmaskDpSolver.MAX_STOPS);
+        }
+        this.exactSolverThreshold = exactSolverThreshold;
+    }
+    
+    public int getExactSolverThreshold() {
+        return exactSolverThreshold;
+    }
+    
+    // The optimal tour replaces the worst individual, so the population stays usable afterwards
+    private void solveExactly() {
+        if (verbose) {
+            System.out.println("\n=== Solving " + chromosomeLength + " stops exactly (bitmask DP) ===");
+        }
+        long startNanos = System.nanoTime();
+        long startEvaluations = fitnessFunction.getEvaluationCount();
+        
+        int[] nodes = new int[chromosomeLength];
+        for (int i = 0; i < chromosomeLength; i++) {
+            nodes[i] = firstLabel() + i;
+        }
+        int[] tour = BitmaskDpSolver.solve(fitnessFunction, nodes);
+        Chromosome optimal;
+        switch (chromosomeType) {
+            case BINARY:
+                optimal = SequenceEncoder.toBinary(tour, tour.length);
+                break;
+            case FLOATING_POINT:
+                optimal = SequenceEncoder.toFloatingPoint(tour, tour.length);
+                break;
+            default:
+                optimal = SequenceEncoder.toInteger(tour, tour.length);
+                break;
+        }
+        
+        population.remove(population.worst());
+        population.add(optimal);
+        setBestSolution(population.best().clone());
+        fitnessHistory.add(bestSolution.getFitness());
+        optimalityGap = 0.0;
+        provedOptimal = true;
+        double diversity = diversityTracker.update(population);
+        
+        ProgressEvent event = new ProgressEvent(0, 0, bestSolution.getFitness(), bestSolution.getFitness(),
+                getAverageFitness(), fitnessFunction.getEvaluationCount() - startEvaluations,
+                System.nanoTime() - startNanos, diversity, optimalityGap);
+        if (verbose) {
+            System.out.println("Optimal route time " + bestSolution.getTotalRouteTime() + " found in " +
+                    String.format("%.2f", event.getElapsedMillis()) + " ms");
+        }
+        finishRun(event);
+    }
+    
+    // ==================== Optimality bound ====================
+    
+    // Compute an upper bound on the objective in the background at the start of run(), report the gap
+    // to it every generation and stop as soon as the best solution reaches it
+    public void setBoundingEnabled(boolean boundingEnabled) {
+        this.boundingEnabled = boundingEnabled;
+    }
+    
+    private void startBoundComputation() {
+        // The bound is for the single-tour objective (time-dependent travel times only make it looser)
+        if (!boundingEnabled || fitnessFunction == null || fitnessFunction.getSplitDecoder() != null
+                || pendingBound != null
+                || (objectiveBound != null && objectiveBound.isValidFor(fitnessFunction, chromosomeLength))) {
+            return;
+        }
+        objectiveBound = null;
+        optimalityGap = -1.0;
+        FitnessEvaluator evaluator = fitnessFunction;
+        int first = firstLabel();
+        int stops = chromosomeLength;
+        pendingBound = CompletableFuture.supplyAsync(() -> ObjectiveBound.compute(evaluator, first, stops));
+    }
+    
+    // Picks up the bound once the background computation is done; never waits for it
+    private void updateOptimalityGap() {
+        if (pendingBound != null && pendingBound.isDone()) {
+            try {
+                objectiveBound = pendingBound.join();
+                if (verbose) {
+                    System.out.println("Bound ready: " + objectiveBound);
+                }
+            } catch (RuntimeException e) {
+                System.err.println("Bound computation failed: " + e.getMessage());
+            }
+            pendingBound = null;
+        }
+        if (objectiveBound == null) {
+            return;
+        }
+        if (!objectiveBound.isValidFor(fitnessFunction, chromosomeLength)) {
+            // Stops changed while it was being computed
+            startBoundComputation();
+            return;
+        }
+        optimalityGap = objectiveBound.gap(fitnessFunction, bestSolution);
+        provedOptimal = objectiveBound.isOptimal(fitnessFunction, bestSolution);
+    }
+    
+    private double currentMutationRate() {
+        double rate = adaptiveController != null ? adaptiveController.getMutationRate() : mutationRate;
+        return mutationBoosted ? Math.min(MAX_BOOSTED_MUTATION_RATE, rate * MUTATION_BOOST_FACTOR) : rate;
+    }
+    
+    // ==================== Elite archive ====================
+    
+    // Warm-start from (and save elites to) an on-disk archive. stopIds.get(i) is the external id of
+    // the stop labelled i + 1 (i for binary chromosomes).
+    public void setEliteArchive(EliteArchive eliteArchive, String depotId, List<String> stopIds) {
+        if (eliteArchive != null && (depotId == null || stopIds == null)) {
+            throw new IllegalArgumentException("Depot id and stop ids are required with an elite archive");
+        }
+        this.eliteArchive = eliteArchive;
+        this.depotId = depotId;
+        this.stopIds = stopIds == null ? null : new ArrayList<>(stopIds);
+    }
+    
+    private int firstLabel() {
+        return chromosomeType == ChromosomeType.BINARY ? 0 : 1;
+    }
+    
+    private List<List<Integer>> loadArchivedSeeds() {
+        if (stopIds.size() != chromosomeLength) {
+            throw new IllegalStateException("Expected " + chromosomeLength + " stop ids, got " + stopIds.size());
+        }
+        Map<String, Integer> labels = stopLabels();
+        List<List<Integer>> seeds = new ArrayList<>();
+        for (List<String> tour : eliteArchive.load(depotId, stopIds)) {
+            List<Integer> seed = new ArrayList<>(tour.size());
+            for (String id : tour) {
+                Integer label = labels.get(id);
+                if (label != null) {
+                    seed.add(label);
+                }
+            }
+            seeds.add(seed);
+        }
+        return seeds;
+    }
+    
+    private Map<String, Integer> stopLabels() {
+        Map<String, Integer> labels = new HashMap<>();
+        for (int i = 0; i < stopIds.size(); i++) {
+            labels.put(stopIds.get(i), i + firstLabel());
+        }
+        return labels;
+    }
+    
+    private void archiveElites() {
+        List<Chromosome> candidates = new ArrayList<>(population);
+        candidates.add(bestSolution);
+        candidates.sort(Comparator.comparingInt((Chromosome c) -> -c.getFitness())
+                .thenComparingInt(Chromosome::getTotalRouteTime));
+        
+        Set<List<Integer>> seen = new HashSet<>();
+        List<EliteArchive.ArchivedTour> tours = new ArrayList<>();
+        for (Chromosome c : candidates) {
+            if (tours.size() >= eliteArchive.getTopK()) {
+                break;
+            }
+            List<Integer> sequence = new ArrayList<>(c.getDeliverySequence());
+            if (!seen.add(sequence)) {
+                continue;
+            }
+            List<String> ids = new ArrayList<>(sequence.size());
+            for (int label : sequence) {
+                ids.add(stopIds.get(label - firstLabel()));
+            }
+            tours.add(new EliteArchive.ArchivedTour(ids, c.getFitness(), c.getTotalRouteTime()));
+        }
+        Map<String, Integer> labels = stopLabels();
+        eliteArchive.record(depotId, stopIds, tours, tour -> rescoreArchivedTour(tour, labels));
+    }
+    
+    // An archived tour of this stop set scored on the current travel times; null if it does not visit
+    // every current stop exactly once
+    private EliteArchive.ArchivedTour rescoreArchivedTour(EliteArchive.ArchivedTour tour, Map<String, Integer> labels) {
+        Set<Integer> visited = new HashSet<>();
+        List<Integer> sequence = new ArrayList<>(tour.stops.size());
+        for (String id : tour.stops) {
+            Integer label = labels.get(id);
+            if (label == null || !visited.add(label)) {
+                return null;
+            }
+            sequence.add(label);
+        }
+        if (sequence.size() != chromosomeLength) {
+            return null;
+        }
+        Chromosome c = new Initializer().fromSequence(typeChoice(), sequence);
+        return new EliteArchive.ArchivedTour(tour.stops, c.getFitness(), c.getTotalRouteTime());
+    }
+    
+    // ==================== Incremental re-optimization ====================
+    // Call between runs; the next run() continues from the patched population instead of starting cold.
+    
+    // Adds a stop to the distance matrix and inserts it into every chromosome at its cheapest position.
+    // Returns the new stop's index.
+    public int insertStop(List<Integer> fromNewStop, List<Integer> toNewStop) {
+        requireInitialized();
+        if (stopIds != null) {
+            throw new IllegalStateException("Stop ids are configured; use insertStop(stopId, ...)");
+        }
+        return insertStopUnchecked(fromNewStop, toNewStop);
+    }
+    
+    public int insertStop(String stopId, List<Integer> fromNewStop, List<Integer> toNewStop) {
+        requireInitialized();
+        int stop = insertStopUnchecked(fromNewStop, toNewStop);
+        if (stopIds != null) {
+            stopIds.add(stopId);
+        }
+        return stop;
+    }
+    
+    private int insertStopUnchecked(List<Integer> fromNewStop, List<Integer> toNewStop) {
+        IncrementalUpdater.checkSupported(population);
+        int stop = fitnessFunction.addStop(fromNewStop, toNewStop);
+        IncrementalUpdater updater = new IncrementalUpdater(fitnessFunction);
+        List<Chromosome> patched = new ArrayList<>(population.size());
+        for (Chromosome c : population) {
+            patched.add(updater.insertStop(c, stop));
+        }
+        population = new RankedPopulation(patched);
+        chromosomeLength++;
+        resetBestAfterEdit();
+        return stop;
+    }
+    
+    public int insertStop(List<Integer> distances) {
+        return insertStop(distances, distances);
+    }
+    
+    // Removes a stop from the distance matrix and from every chromosome. The last stop takes over the
+    // removed index; returns its previous index (or -1 if the removed stop was the last one).
+    public int removeStop(int stop) {
+        requireInitialized();
+        if (chromosomeLength <= 1) {
+            throw new IllegalStateException("Cannot remove the only remaining stop");
+        }
+        IncrementalUpdater.checkSupported(population);
+        int movedFrom = fitnessFunction.removeStop(stop);
+        if (stopIds != null) {
+            // Mirror the matrix: the last stop's id takes over the removed slot
+            int last = stopIds.size() - 1;
+            stopIds.set(stop - firstLabel(), stopIds.get(last));
+            stopIds.remove(last);
+        }
+        IncrementalUpdater updater = new IncrementalUpdater(fitnessFunction);
+        List<Chromosome> patched = new ArrayList<>(population.size());
+        for (Chromosome c : population) {
+            patched.add(updater.removeStop(c, stop, movedFrom));
+        }
+        population = new RankedPopulation(patched);
+        chromosomeLength--;
+        resetBestAfterEdit();
+        return movedFrom;
+    }
+    
+    private void requireInitialized() {
+        if (!initialized) {
+            throw new IllegalStateException("Initialize or run the GA before editing stops");
+        }
+    }
+    
+    // The old best solution refers to the old stop set, so re-derive it from the patched population
+    private void resetBestAfterEdit() {
+        setBestSolution(population.best().clone());
+        objectiveVersion = fitnessFunction.getMatrixVersion();
+    }
+    
+    // The objective changed since the last run (travel times, route splitting, matrix edits), so the
+    // fitness cached in every chromosome is stale: drop it and re-rank under the current objective
+    private void rescorePopulation() {
+        List<Chromosome> individuals = new ArrayList<>(population.size());
+        for (Chromosome c : population) {
+            c.invalidate();
+            individuals.add(c);
+        }
+        population = new RankedPopulation(individuals);
+        resetBestAfterEdit();
+    }
+    
+    private void setBestSolution(Chromosome best) {
+        bestSolution = best;
+        Chromosome snapshot = best.clone();
+        // Fill the lazy caches before publishing, so readers never evaluate on their own thread
+        snapshot.getFitness();
+        snapshot.getTotalRouteTime();
+        bestSnapshot = snapshot;
+    }
+    
+    // Asks a running (or about to run) GA to stop after the current generation; safe from any thread
+    public void requestStop() {
+        stopToken.requestStop();
+    }
+    
+    public boolean isStopRequested() {
+        return stopToken.isStopRequested();
+    }
+    
+    public void addProgressListener(ProgressListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        progressListeners.add(listener);
+    }
+    
+    public void removeProgressListener(ProgressListener listener) {
+        progressListeners.remove(listener);
     }
     
     private List<Chromosome> createOffspring(int currentGen, int maxGen) {
         List<Chromosome> offspring = new ArrayList<>();
         
         while (offspring.size() < populationSize) {
+            long t = profiler.start();
             Chromosome parent1 = selectionMethod.select(population);
             Chromosome parent2 = selectionMethod.select(population);
+            t = profiler.lap(Phase.SELECTION, t);
             
             List<Chromosome> children = crossoverOperator.crossover(parent1, parent2, crossoverRate);
+            t = profiler.lap(Phase.CROSSOVER, t);
             
             for (Chromosome child : children) {
-                try {
-                    if (child.getClass().getName().equals("GeneticAlgorithm.Chromosomes.FloatingPointChromosome")) {
-                        if (floatingPointMutationMethod == 1) {
-                            child.getClass().getMethod("mutateMethod1", double.class).invoke(child, mutationRate);
-                        } else {
-                            child.getClass().getMethod("mutateMethod2", double.class, int.class, int.class)
-                                    .invoke(child, mutationRate, currentGen, maxGen);
-                        }
-                    } else {
-                        child.mutateMethod1(mutationRate);
-                    }
-                } catch (Exception e) {
-                    child.mutateMethod1(mutationRate);
-                }
+                mutate(child, currentGen, maxGen);
+                t = profiler.lap(Phase.MUTATION, t);
+                
+                // Evaluate here so the cost lands in its own phase instead of inside selection/replacement
+                child.getFitness();
+                t = profiler.lap(Phase.EVALUATION, t);
+                
                 offspring.add(child);
                 if (offspring.size() >= populationSize) break;
             }
@@ -143,21 +703,92 @@ public class GeneticAlgorithm {
         return offspring;
     }
     
-    private Chromosome findBest(List<Chromosome> pop) {
-        Chromosome best = pop.get(0);
-        for (Chromosome c : pop) {
-            if (c.getFitness() > best.getFitness()) {
-                best = c;
+    private void mutate(Chromosome child, int currentGen, int maxGen) {
+        mutationOperator.mutate(child, currentMutationRate(), currentGen, maxGen);
+    }
+    
+    // Breeds like createOffspring, but once the surrogate ranks well only the children it ranks highest
+    // are evaluated; the remaining offspring slots go to the best of the current population, whose
+    // fitness is already known. Until then every child is evaluated and feeds the surrogate.
+    private List<Chromosome> createScreenedOffspring(int currentGen, int maxGen) {
+        if (!surrogate.isScreening(fitnessFunction)) {
+            List<Chromosome> offspring = createOffspring(currentGen, maxGen);
+            long t = profiler.start();
+            surrogate.record(offspring, fitnessFunction);
+            profiler.lap(Phase.EVALUATION, t);
+            return offspring;
+        }
+        
+        List<Chromosome> candidates = new ArrayList<>();
+        while (candidates.size() < populationSize) {
+            long t = profiler.start();
+            Chromosome parent1 = selectionMethod.select(population);
+            Chromosome parent2 = selectionMethod.select(population);
+            t = profiler.lap(Phase.SELECTION, t);
+            
+            List<Chromosome> children = crossoverOperator.crossover(parent1, parent2, crossoverRate);
+            t = profiler.lap(Phase.CROSSOVER, t);
+            
+            for (Chromosome child : children) {
+                mutate(child, currentGen, maxGen);
+                t = profiler.lap(Phase.MUTATION, t);
+                
+                candidates.add(child);
+                if (candidates.size() >= populationSize) break;
+            }
+        }
+        
+        long t = profiler.start();
+        List<Chromosome> offspring = surrogate.screen(candidates, fitnessFunction);
+        profiler.lap(Phase.EVALUATION, t);
+        offspring.addAll(population.top(populationSize - offspring.size()));
+        return offspring;
+    }
+    
+    // Same loop as createOffspring, but the controller picks each child's operators and learns from
+    // how much the child improved on its parents per unit of CPU time
+    private List<Chromosome> createAdaptiveOffspring(int currentGen, int maxGen) {
+        List<Chromosome> offspring = new ArrayList<>();
+        AdaptiveController controller = adaptiveController;
+        
+        while (offspring.size() < populationSize) {
+            long t = profiler.start();
+            Chromosome parent1 = selectionMethod.select(population);
+            Chromosome parent2 = selectionMethod.select(population);
+            t = profiler.lap(Phase.SELECTION, t);
+            
+            int crossoverArm = controller.selectCrossover();
+            long cpu = controller.cpuTime();
+            List<Chromosome> children = controller.getCrossover(crossoverArm)
+                    .crossover(parent1, parent2, controller.getCrossoverRate());
+            long crossoverCpu = (controller.cpuTime() - cpu) / Math.max(1, children.size());
+            t = profiler.lap(Phase.CROSSOVER, t);
+            
+            for (Chromosome child : children) {
+                long childHash = child.sequenceHash();
+                boolean recombined = childHash != parent1.sequenceHash() && childHash != parent2.sequenceHash();
+                
+                cpu = controller.cpuTime();
+                int mutationArm = controller.selectMutation(child);
+                controller.getMutation(mutationArm).mutate(child, currentMutationRate(), currentGen, maxGen);
+                t = profiler.lap(Phase.MUTATION, t);
+                
+                child.getFitness();
+                t = profiler.lap(Phase.EVALUATION, t);
+                controller.record(crossoverArm, mutationArm, child, parent1, parent2, recombined,
+                        crossoverCpu + controller.cpuTime() - cpu);
+                
+                offspring.add(child);
+                if (offspring.size() >= populationSize) break;
             }
         }
-        return best;
+        
+        return offspring;
     }
     
+    // Maintained by the population as individuals come and go, so this is O(1)
     private double getAverageFitness() {
-        return population.stream()
-                .mapToInt(Chromosome::getFitness)
-                .average()
-                .orElse(0.0);
+        return population.getFitnessStatistics().getMean();
     }
     
     // ==================== Getters ====================
@@ -166,12 +797,53 @@ public class GeneticAlgorithm {
         return bestSolution;
     }
     
+    // Best solution so far, safe to poll from any thread while run() is in progress. Never waits on
+    // the engine; returns a copy, or null before initialization.
+    public Chromosome currentBest() {
+        Chromosome snapshot = bestSnapshot;
+        return snapshot == null ? null : snapshot.clone();
+    }
+    
     public List<Chromosome> getPopulation() {
         return new ArrayList<>(population);
     }
     
     public List<Double> getFitnessHistory() {
-        return new ArrayList<>(fitnessHistory);
+        return fitnessHistory.toList();
+    }
+    
+    public List<Double> getDiversityHistory() {
+        return diversityHistory.toList();
+    }
+    
+    // Statistics of the current population; live views, read them on the engine's thread
+    public RunningStatistics getFitnessStatistics() {
+        return population.getFitnessStatistics();
+    }
+    
+    public RunningStatistics getRouteTimeStatistics() {
+        return population.getRouteTimeStatistics();
+    }
+    
+    public double getDiversity() {
+        return diversityTracker.getDiversity();
+    }
+    
+    // Upper bound on the objective minus the best solution's exact fitness; -1 while no bound is known
+    public double getOptimalityGap() {
+        return optimalityGap;
+    }
+    
+    public ObjectiveBound getObjectiveBound() {
+        return objectiveBound;
+    }
+    
+    public boolean isProvedOptimal() {
+        return provedOptimal;
+    }
+    
+    public int getRestartCount() {
+        return restarts;
     }
     
     public int getPopulationSize() {
@@ -194,6 +866,10 @@ public class GeneticAlgorithm {
         return mutationRate;
     }
     
+    public GaProfiler getProfiler() {
+        return profiler;
+    }
+    
     // ==================== Setters ====================
     
     public void setPopulationSize(int populationSize) {
@@ -251,6 +927,47 @@ public class GeneticAlgorithm {
         this.replacementStrategy = replacementStrategy;
     }
     
+    public void setMutationOperator(Mutation mutationOperator) {
+        this.mutationOperator = mutationOperator;
+    }
+    
+    // 1 = uniform, 2 = non-uniform; only used to pick the default mutation for floating-point chromosomes
+    public void setFloatingPointMutationMethod(int method) {
+        if (method != 1 && method != 2) {
+            throw new IllegalArgumentException("Floating-point mutation method must be 1 or 2");
+        }
+        this.floatingPointMutationMethod = method;
+    }
+    
+    // Let a bandit choose among several crossovers/mutations and adapt the rates; null turns it off.
+    // The configured crossover rate and mutation rate become the starting values.
+    public void setAdaptiveController(AdaptiveController adaptiveController) {
+        this.adaptiveController = adaptiveController;
+    }
+    
+    public AdaptiveController getAdaptiveController() {
+        return adaptiveController;
+    }
+    
+    // Pre-screen offspring with a neural-network surrogate so fewer of them are evaluated; null turns
+    // it off. Not used together with an adaptive controller, which learns from every child.
+    public void setSurrogate(SurrogateScreen surrogate) {
+        this.surrogate = surrogate;
+    }
+    
+    public SurrogateScreen getSurrogate() {
+        return surrogate;
+    }
+    
+    // false silences the console output of run(); printStatistics() still prints
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+    
+    public void setProfilingEnabled(boolean enabled) {
+        profiler.setEnabled(enabled);
+    }
+    
     public void setEliteCount(int eliteCount) {
         if (eliteCount < 0) {
             throw new IllegalArgumentException("Elite count must be non-negative");
@@ -270,14 +987,34 @@ public class GeneticAlgorithm {
         System.out.println("Total Route Time: " + bestSolution.getTotalRouteTime());
         
         if (!fitnessHistory.isEmpty()) {
-            double avgFitness = fitnessHistory.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
-            double maxFitness = fitnessHistory.stream().mapToDouble(Double::doubleValue).max().orElse(0.0);
-            double minFitness = fitnessHistory.stream().mapToDouble(Double::doubleValue).min().orElse(0.0);
-            
             System.out.println("\nGeneticAlgorithm.Fitness Evolution:");
-            System.out.println("  Average: " + String.format("%.2f", avgFitness));
-            System.out.println("  Maximum: " + String.format("%.2f", maxFitness));
-            System.out.println("  Minimum: " + String.format("%.2f", minFitness));
+            System.out.println("  Average: " + String.format("%.2f", fitnessHistory.average()));
+            System.out.println("  Maximum: " + String.format("%.2f", fitnessHistory.max()));
+            System.out.println("  Minimum: " + String.format("%.2f", fitnessHistory.min()));
+        }
+        
+        if (population != null && !population.isEmpty()) {
+            System.out.println("\nFinal Population:");
+            System.out.println("  Fitness: " + population.getFitnessStatistics() +
+                    ", min=" + population.worst().getFitness() + ", max=" + population.best().getFitness());
+            System.out.println("  Route Time: " + population.getRouteTimeStatistics());
+        }
+        
+        if (!diversityHistory.isEmpty()) {
+            double minDiversity = diversityHistory.min();
+            System.out.println("\nDiversity:");
+            System.out.println("  Final: " + String.format("%.3f", diversityTracker.getDiversity()));
+            System.out.println("  Minimum: " + String.format("%.3f", minDiversity));
+            if (diversityResponse != DiversityResponse.NONE) {
+                System.out.println("  Response: " + diversityResponse + " below " + diversityThreshold +
+                        (diversityResponse == DiversityResponse.RESTART ? " (" + restarts + " restarts)" : ""));
+            }
+        }
+        
+        if (objectiveBound != null || provedOptimal) {
+            System.out.println("\nOptimality:");
+            System.out.println("  Bound: " + (objectiveBound != null ? objectiveBound : "exact DP"));
+            System.out.println("  Gap: " + String.format("%.2f", optimalityGap) + (provedOptimal ? " (optimal)" : ""));
         }
         
         System.out.println("\nConfiguration:");
@@ -286,6 +1023,21 @@ public class GeneticAlgorithm {
         System.out.println("  Generations: " + generations);
         System.out.println("  GeneticAlgorithm.Crossover Rate: " + crossoverRate);
         System.out.println("  Mutation Rate: " + mutationRate);
+        
+        if (adaptiveController != null) {
+            adaptiveController.printReport();
+        }
+        
+        if (surrogate != null) {
+            surrogate.printReport();
+        }
+        
+        TranspositionTable table = fitnessFunction.getTranspositionTable();
+        if (table != null) {
+            System.out.println("  Transposition table hit rate: " + String.format("%.1f%%", 100.0 * table.getHitRate()));
+        }
+        
+        profiler.printReport();
         System.out.println("=====================================\n");
     }
 }
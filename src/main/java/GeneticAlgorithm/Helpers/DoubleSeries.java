@@ -0,0 +1,88 @@
+package GeneticAlgorithm.Helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Append-only series of doubles in a growable primitive array. Sum, min and max are kept as values
+// are appended, so summaries are O(1) instead of a pass over the series.
+public class DoubleSeries {
+
+    private double[] values;
+    private int size = 0;
+    private double sum = 0.0;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public DoubleSeries() {
+        this(64);
+    }
+
+    public DoubleSeries(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Initial capacity must be at least 1");
+        }
+        this.values = new double[initialCapacity];
+    }
+
+    public void add(double value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[size++] = value;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public double get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // The summaries below are 0 for an empty series
+    public double average() {
+        return size == 0 ? 0.0 : sum / size;
+    }
+
+    public double min() {
+        return size == 0 ? 0.0 : min;
+    }
+
+    public double max() {
+        return size == 0 ? 0.0 : max;
+    }
+
+    public double last() {
+        return size == 0 ? 0.0 : values[size - 1];
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    public List<Double> toList() {
+        List<Double> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(values[i]);
+        }
+        return list;
+    }
+
+    public void clear() {
+        size = 0;
+        sum = 0.0;
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+    }
+}
@@ -0,0 +1,42 @@
+package GeneticAlgorithm.Helpers;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+// Single place the chromosome operators get their randomness from. Defaults to ThreadLocalRandom
+// (no per-object generators, no contention between threads). A fixed generator can be injected
+// for reproducible single-threaded runs.
+public final class RandomSource {
+
+    private static volatile RandomGenerator injected;
+
+    private RandomSource() {
+    }
+
+    public static RandomGenerator get() {
+        RandomGenerator generator = injected;
+        return generator != null ? generator : ThreadLocalRandom.current();
+    }
+
+    // The injected generator is shared by every thread, so it must be thread-safe if engines run in parallel
+    public static void setGenerator(RandomGenerator generator) {
+        injected = generator;
+    }
+
+    public static void setSeed(long seed) {
+        injected = new SplittableRandom(seed);
+    }
+
+    public static void reset() {
+        injected = null;
+    }
+
+    // Geometric skip sampling: with per-gene probability p, the number of untouched genes before the
+    // next mutated one is Geometric(p). logOneMinusP is Math.log1p(-p), computed once per chromosome.
+    public static int nextGap(RandomGenerator rng, double logOneMinusP) {
+        double u = 1.0 - rng.nextDouble(); // (0, 1], avoids log(0)
+        double gap = Math.floor(Math.log(u) / logOneMinusP);
+        return gap >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) gap;
+    }
+}
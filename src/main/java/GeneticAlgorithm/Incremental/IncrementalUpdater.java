@@ -0,0 +1,115 @@
+package GeneticAlgorithm.Incremental;
+
+import GeneticAlgorithm.Chromosomes.BinaryChromosome;
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Chromosomes.FloatingPointChromosome;
+import GeneticAlgorithm.Chromosomes.IntegerChromosome;
+import GeneticAlgorithm.Fitness.FitnessEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Patches existing chromosomes when a stop is added to or removed from the distance matrix,
+// so a live population can keep evolving instead of being re-initialized.
+// Stops are labelled 1..n as in IntegerChromosome and FloatingPointChromosome.
+public class IncrementalUpdater {
+
+    private final FitnessEvaluator evaluator;
+
+    public IncrementalUpdater(FitnessEvaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+
+    // Position in seq where inserting `stop` adds the least travel time (0..seq.size())
+    public int cheapestInsertionPosition(List<Integer> seq, int stop) {
+        if (seq.isEmpty()) {
+            return 0;
+        }
+        int bestPos = 0;
+        long bestDelta = evaluator.getDistance(stop, seq.get(0));
+
+        for (int pos = 1; pos < seq.size(); pos++) {
+            int prev = seq.get(pos - 1);
+            int next = seq.get(pos);
+            long delta = (long) evaluator.getDistance(prev, stop) + evaluator.getDistance(stop, next)
+                    - evaluator.getDistance(prev, next);
+            if (delta < bestDelta) {
+                bestDelta = delta;
+                bestPos = pos;
+            }
+        }
+
+        int last = seq.get(seq.size() - 1);
+        if (evaluator.getDistance(last, stop) < bestDelta) {
+            bestPos = seq.size();
+        }
+        return bestPos;
+    }
+
+    // Returns a new chromosome of the same type with `stop` inserted at its cheapest position
+    public Chromosome insertStop(Chromosome chromosome, int stop) {
+        checkSupported(chromosome);
+        List<Integer> seq = chromosome.getDeliverySequence();
+        int pos = cheapestInsertionPosition(seq, stop);
+
+        if (chromosome instanceof IntegerChromosome) {
+            List<Integer> genes = new ArrayList<>(seq.size() + 1);
+            genes.addAll(seq);
+            genes.add(pos, stop);
+            return new IntegerChromosome(genes);
+        }
+
+        // Random keys: decode order is by descending key, so squeeze the new key between its neighbours.
+        // The new stop is the highest label, i.e. the last gene.
+        List<Double> keys = ((FloatingPointChromosome) chromosome).getGenes();
+        double upper = pos == 0 ? 1.0 : keys.get(seq.get(pos - 1) - 1);
+        double lower = pos == seq.size() ? 0.0 : keys.get(seq.get(pos) - 1);
+        keys.add((upper + lower) / 2.0);
+        return new FloatingPointChromosome(keys);
+    }
+
+    // Returns a new chromosome without `stop`. movedFrom is the value FitnessEvaluator.removeStop returned:
+    // the old label of the stop that now takes over `stop`'s index, or -1.
+    public Chromosome removeStop(Chromosome chromosome, int stop, int movedFrom) {
+        checkSupported(chromosome);
+
+        if (chromosome instanceof IntegerChromosome) {
+            List<Integer> seq = chromosome.getDeliverySequence();
+            List<Integer> genes = new ArrayList<>(seq.size() - 1);
+            for (int label : seq) {
+                if (label == stop) {
+                    continue;
+                }
+                genes.add(label == movedFrom ? stop : label);
+            }
+            return new IntegerChromosome(genes);
+        }
+
+        // Mirror the matrix: the last key moves into the removed stop's slot
+        List<Double> keys = ((FloatingPointChromosome) chromosome).getGenes();
+        int lastIdx = keys.size() - 1;
+        if (movedFrom != -1) {
+            keys.set(stop - 1, keys.get(lastIdx));
+        }
+        keys.remove(lastIdx);
+        return new FloatingPointChromosome(keys);
+    }
+
+    // Throws if any chromosome cannot be patched; call before changing the matrix, so a rejected
+    // edit leaves everything as it was
+    public static void checkSupported(Iterable<? extends Chromosome> chromosomes) {
+        for (Chromosome c : chromosomes) {
+            checkSupported(c);
+        }
+    }
+
+    private static void checkSupported(Chromosome chromosome) {
+        if (chromosome instanceof BinaryChromosome) {
+            throw new IllegalStateException("Incremental updates are not supported for BinaryChromosome " +
+                    "(it labels stops 0..n-1 instead of 1..n)");
+        }
+        if (!(chromosome instanceof IntegerChromosome) && !(chromosome instanceof FloatingPointChromosome)) {
+            throw new IllegalArgumentException("Unsupported chromosome type: " + chromosome.getClass().getSimpleName());
+        }
+    }
+}
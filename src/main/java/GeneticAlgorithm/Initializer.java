@@ -4,6 +4,9 @@ import GeneticAlgorithm.Chromosomes.BinaryChromosome;
 import GeneticAlgorithm.Chromosomes.Chromosome;
 import GeneticAlgorithm.Chromosomes.FloatingPointChromosome;
 import GeneticAlgorithm.Chromosomes.IntegerChromosome;
+import GeneticAlgorithm.Chromosomes.SequenceEncoder;
+import GeneticAlgorithm.Fitness.FitnessEvaluator;
+import GeneticAlgorithm.Incremental.IncrementalUpdater;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,6 +28,58 @@ public class Initializer {
         }
     }
 
+    // Seed the population with known tours (e.g. from an EliteArchive) and fill the rest randomly.
+    // Seeds may miss stops or contain unknown ones: unknown labels are dropped and missing stops
+    // are added at their cheapest insertion position.
+    List<Chromosome> initSeeded(int choice, int noOfOrders, int popSize, List<List<Integer>> seeds, FitnessEvaluator evaluator){
+        int firstLabel = choice == 1 ? 0 : 1;
+        IncrementalUpdater updater = new IncrementalUpdater(evaluator);
+        List<Chromosome> ret = new ArrayList<Chromosome>();
+        for (List<Integer> seed : seeds) {
+            if (ret.size() >= popSize) {
+                break;
+            }
+            List<Integer> tour = completeTour(seed, firstLabel, noOfOrders, updater);
+            ret.add(fromSequence(choice, tour));
+        }
+        ret.addAll(this.init(choice, noOfOrders, popSize - ret.size()));
+        return ret;
+    }
+
+    private List<Integer> completeTour(List<Integer> seed, int firstLabel, int noOfOrders, IncrementalUpdater updater){
+        boolean[] present = new boolean[noOfOrders];
+        List<Integer> tour = new ArrayList<>(noOfOrders);
+        for (int label : seed) {
+            int idx = label - firstLabel;
+            if (idx >= 0 && idx < noOfOrders && !present[idx]) {
+                present[idx] = true;
+                tour.add(label);
+            }
+        }
+        for (int idx = 0; idx < noOfOrders; idx++) {
+            if (!present[idx]) {
+                int label = idx + firstLabel;
+                tour.add(updater.cheapestInsertionPosition(tour, label), label);
+            }
+        }
+        return tour;
+    }
+
+    Chromosome fromSequence(int choice, List<Integer> sequence){
+        if (choice==1){
+            return SequenceEncoder.toBinary(sequence);
+        }
+        else if (choice==2){
+            return SequenceEncoder.toInteger(sequence);
+        }
+        else if (choice==3){
+            return SequenceEncoder.toFloatingPoint(sequence);
+        }
+        else {
+            throw new IllegalArgumentException("Invalid choice");
+        }
+    }
+
     List<Chromosome> initBinary(int noOfOrders,int popSize){
         List<Chromosome> ret = new ArrayList<Chromosome>();
         while (popSize>0){
@@ -6,6 +6,7 @@ import GeneticAlgorithm.Crossover.*;
 import GeneticAlgorithm.Fitness.*;
 import GeneticAlgorithm.Selection.*;
 import GeneticAlgorithm.Replacement.*;
+import GeneticAlgorithm.Population.RankedPopulation;
 
 import java.util.*;
 
@@ -126,6 +127,7 @@ public class Main {
         System.out.println("Choose GeneticAlgorithm.Selection Method (default: " + defaultSelType + "):");
         System.out.println("1 - Tournament GeneticAlgorithm.Selection");
         System.out.println("2 - Roulette Wheel GeneticAlgorithm.Selection");
+        System.out.println("3 - Rank GeneticAlgorithm.Selection");
         int selType = getIntInput(sc, defaultSelType);
 
         Selection selection;
@@ -133,6 +135,8 @@ public class Main {
             System.out.println("Enter tournament size (default: " + defaultTournamentSize + "):");
             int tSize = getIntInput(sc, defaultTournamentSize);
             selection = new TournamentSelection(tSize);
+        } else if (selType == 3) {
+            selection = new RankSelection();
         } else {
             selection = new RouletteWheelSelection();
         }
@@ -376,15 +380,14 @@ public class Main {
         System.out.println("Generations: " + generations);
         System.out.println("GeneticAlgorithm.Crossover Probability: " + crossoverProb);
         System.out.println("Mutation Probability: " + mutationProb);
-        System.out.println("GeneticAlgorithm.Selection Method: " + (selType == 1 ? "Tournament" : "Roulette Wheel"));
+        System.out.println("GeneticAlgorithm.Selection Method: " + (selType == 1 ? "Tournament" : selType == 3 ? "Rank" : "Roulette Wheel"));
         System.out.println("GeneticAlgorithm.Replacement Strategy: " + replacementStrategy.toString());
 
         System.out.println("\n=== FINAL ALGORITHM DEMONSTRATION ===");
         System.out.println("Demonstrating the complete genetic algorithm workflow:");
 
         System.out.println("\nFinal Population Sample (top 5 individuals):");
-        List<Chromosome> sortedPopulation = new ArrayList<>(population);
-        sortedPopulation.sort((a, b) -> Integer.compare(b.getFitness(), a.getFitness()));
+        List<Chromosome> sortedPopulation = new RankedPopulation(population).top(5);
 
         for (int i = 0; i < Math.min(5, sortedPopulation.size()); i++) {
             Chromosome c = sortedPopulation.get(i);
@@ -0,0 +1,123 @@
+package GeneticAlgorithm.MultiObjective;
+
+import java.util.Arrays;
+
+// Non-dominated sorting and crowding distance for the two objectives of this problem: on-time
+// deliveries (maximised) and route time (minimised). Works on primitive objective arrays.
+//
+// Jensen's two-objective sort: after ordering the points by on-time deliveries (then route time),
+// a point is dominated by front k exactly when it is dominated by the last point added to front k,
+// and that test is monotone in k, so each point finds its front by binary search. O(N log N) instead
+// of the O(MN^2) of the pairwise sort.
+public final class NonDominatedSorting {
+
+    private NonDominatedSorting() {
+    }
+
+    // Front index of every point, 0 being the non-dominated front. Identical points share a front.
+    public static int[] sort(int[] onTime, int[] routeTime) {
+        int n = onTime.length;
+        if (routeTime.length != n) {
+            throw new IllegalArgumentException("Got " + n + " on-time counts and " + routeTime.length + " route times");
+        }
+        int[] order = byOnTimeThenRoute(onTime, routeTime);
+        int[] rank = new int[n];
+        int[] lastOfFront = new int[n]; // last point added to each front so far
+        int fronts = 0;
+        for (int p : order) {
+            int lo = 0;
+            int hi = fronts;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (dominates(onTime, routeTime, lastOfFront[mid], p)) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            rank[p] = lo;
+            lastOfFront[lo] = p;
+            if (lo == fronts) {
+                fronts++;
+            }
+        }
+        return rank;
+    }
+
+    // a dominates b: at least as good in both objectives and better in one
+    public static boolean dominates(int[] onTime, int[] routeTime, int a, int b) {
+        return onTime[a] >= onTime[b] && routeTime[a] <= routeTime[b]
+                && (onTime[a] > onTime[b] || routeTime[a] < routeTime[b]);
+    }
+
+    // Crowding distance of every point within its own front. Boundary points get infinity.
+    // In a two-objective front, ordering by one objective also orders the other, so one sort per
+    // front is enough.
+    public static double[] crowdingDistance(int[] onTime, int[] routeTime, int[] rank) {
+        int n = onTime.length;
+        double[] distance = new double[n];
+        int[] order = byOnTimeThenRoute(onTime, routeTime);
+
+        // Stable bucket by front, keeping the objective order within each front
+        int fronts = 0;
+        for (int r : rank) {
+            fronts = Math.max(fronts, r + 1);
+        }
+        int[] start = new int[fronts + 1];
+        for (int r : rank) {
+            start[r + 1]++;
+        }
+        for (int f = 0; f < fronts; f++) {
+            start[f + 1] += start[f];
+        }
+        int[] filled = Arrays.copyOf(start, fronts);
+        int[] byFront = new int[n];
+        for (int p : order) {
+            byFront[filled[rank[p]]++] = p;
+        }
+
+        for (int f = 0; f < fronts; f++) {
+            int from = start[f];
+            int to = start[f + 1];
+            int first = byFront[from];
+            int last = byFront[to - 1];
+            distance[first] = Double.POSITIVE_INFINITY;
+            distance[last] = Double.POSITIVE_INFINITY;
+            double onTimeRange = onTime[first] - onTime[last];
+            double routeRange = routeTime[last] - routeTime[first];
+            for (int i = from + 1; i < to - 1; i++) {
+                int prev = byFront[i - 1];
+                int next = byFront[i + 1];
+                double d = 0.0;
+                if (onTimeRange > 0) {
+                    d += (onTime[prev] - onTime[next]) / onTimeRange;
+                }
+                if (routeRange > 0) {
+                    d += (routeTime[next] - routeTime[prev]) / routeRange;
+                }
+                distance[byFront[i]] = d;
+            }
+        }
+        return distance;
+    }
+
+    // Indices sorted by on-time deliveries descending, then route time ascending
+    private static int[] byOnTimeThenRoute(int[] onTime, int[] routeTime) {
+        int n = onTime.length;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            // Both objectives in one comparable long; route times are non-negative ints
+            keys[i] = (Integer.MAX_VALUE - (long) onTime[i]) << 31 | routeTime[i];
+        }
+        Integer[] boxed = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            boxed[i] = i;
+        }
+        Arrays.sort(boxed, (a, b) -> Long.compare(keys[a], keys[b]));
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = boxed[i];
+        }
+        return order;
+    }
+}
@@ -0,0 +1,182 @@
+package GeneticAlgorithm.MultiObjective;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Crossover.Crossover;
+import GeneticAlgorithm.Fitness.FitnessEvaluator;
+import GeneticAlgorithm.Helpers.RandomSource;
+import GeneticAlgorithm.Mutation.Mutation;
+import GeneticAlgorithm.Solvers.Incumbent;
+import GeneticAlgorithm.Solvers.Solver;
+import GeneticAlgorithm.Solvers.StopToken;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+// NSGA-II on the two objectives FitnessEvaluator otherwise folds into one score: on-time deliveries
+// (maximised) and route time (minimised). Each generation breeds N children by binary tournament on
+// (front, crowding distance), then keeps the best N of parents + children by the same order.
+// Objectives are computed once per individual and kept in int arrays next to the population, so
+// sorting never touches the chromosomes. Every individual is offered to a ParetoArchive.
+//
+// As a Solver it returns (and publishes) the solution with the most on-time deliveries, then the
+// shortest route, so it can join a portfolio; the trade-off front is in getArchive().
+public class Nsga2 implements Solver {
+
+    private final String name;
+    private final List<Chromosome> initialPopulation;
+    private final Crossover crossover;
+    private final int generations;
+    private double crossoverRate = 0.9;
+    private double mutationRate = 0.05;
+    private Mutation mutation; // null: the chromosome's own mutateMethod1
+    private final ParetoArchive archive = new ParetoArchive();
+    private int generationsRun = 0;
+
+    public Nsga2(String name, List<Chromosome> initialPopulation, Crossover crossover, int generations) {
+        if (initialPopulation == null || initialPopulation.size() < 2) {
+            throw new IllegalArgumentException("Population must have at least 2 individuals");
+        }
+        if (crossover == null) {
+            throw new IllegalArgumentException("Crossover cannot be null");
+        }
+        if (generations < 1) {
+            throw new IllegalArgumentException("Generations must be at least 1");
+        }
+        this.name = name;
+        this.initialPopulation = new ArrayList<>(initialPopulation);
+        this.crossover = crossover;
+        this.generations = generations;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Chromosome solve(Incumbent incumbent, StopToken stop) {
+        FitnessEvaluator evaluator = FitnessEvaluator.getInstance();
+        RandomGenerator rng = RandomSource.get();
+        int n = initialPopulation.size();
+        archive.clear();
+
+        Chromosome[] population = new Chromosome[n];
+        int[] onTime = new int[n];
+        int[] routeTime = new int[n];
+        for (int i = 0; i < n; i++) {
+            population[i] = initialPopulation.get(i).clone();
+            score(evaluator, population, onTime, routeTime, i);
+        }
+        int[] rank = NonDominatedSorting.sort(onTime, routeTime);
+        double[] crowding = NonDominatedSorting.crowdingDistance(onTime, routeTime, rank);
+
+        Chromosome[] merged = new Chromosome[2 * n];
+        int[] mergedOnTime = new int[2 * n];
+        int[] mergedRoute = new int[2 * n];
+        generationsRun = 0;
+        for (int gen = 0; gen < generations && !stop.isStopRequested(); gen++) {
+            System.arraycopy(population, 0, merged, 0, n);
+            System.arraycopy(onTime, 0, mergedOnTime, 0, n);
+            System.arraycopy(routeTime, 0, mergedRoute, 0, n);
+
+            int children = n;
+            while (children < 2 * n) {
+                int first = tournament(rank, crowding, rng);
+                int second = tournament(rank, crowding, rng);
+                for (Chromosome child : crossover.crossover(population[first], population[second], crossoverRate)) {
+                    if (children == 2 * n) {
+                        break;
+                    }
+                    if (child == population[first] || child == population[second]) {
+                        child = child.clone();
+                    }
+                    if (mutation != null) {
+                        mutation.mutate(child, mutationRate, gen, generations);
+                    } else {
+                        child.mutateMethod1(mutationRate);
+                    }
+                    merged[children] = child;
+                    score(evaluator, merged, mergedOnTime, mergedRoute, children);
+                    children++;
+                }
+            }
+
+            int[] mergedRank = NonDominatedSorting.sort(mergedOnTime, mergedRoute);
+            double[] mergedCrowding = NonDominatedSorting.crowdingDistance(mergedOnTime, mergedRoute, mergedRank);
+            Integer[] order = new Integer[2 * n];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> mergedRank[a] != mergedRank[b]
+                    ? Integer.compare(mergedRank[a], mergedRank[b])
+                    : Double.compare(mergedCrowding[b], mergedCrowding[a]));
+
+            // Ranks and crowding of the survivors carry over to the next tournament: the best N
+            // still sit in the same fronts, and only the truncated last front lost members
+            population = new Chromosome[n];
+            rank = new int[n];
+            crowding = new double[n];
+            for (int i = 0; i < n; i++) {
+                int chosen = order[i];
+                population[i] = merged[chosen];
+                onTime[i] = mergedOnTime[chosen];
+                routeTime[i] = mergedRoute[chosen];
+                rank[i] = mergedRank[chosen];
+                crowding[i] = mergedCrowding[chosen];
+            }
+            generationsRun++;
+            publish(incumbent);
+        }
+        return publish(incumbent);
+    }
+
+    private void score(FitnessEvaluator evaluator, Chromosome[] population, int[] onTime, int[] routeTime, int i) {
+        onTime[i] = evaluator.calculateOnTimeDeliveries(population[i]);
+        routeTime[i] = population[i].getTotalRouteTime();
+        archive.offer(population[i], onTime[i], routeTime[i]);
+    }
+
+    // Lower front wins, then larger crowding distance
+    private static int tournament(int[] rank, double[] crowding, RandomGenerator rng) {
+        int a = rng.nextInt(rank.length);
+        int b = rng.nextInt(rank.length);
+        if (rank[a] != rank[b]) {
+            return rank[a] < rank[b] ? a : b;
+        }
+        return crowding[a] >= crowding[b] ? a : b;
+    }
+
+    private Chromosome publish(Incumbent incumbent) {
+        Chromosome best = archive.getBest().getSolution();
+        incumbent.offer(name, best);
+        return best;
+    }
+
+    public ParetoArchive getArchive() {
+        return archive;
+    }
+
+    public void setCrossoverRate(double crossoverRate) {
+        if (crossoverRate < 0.0 || crossoverRate > 1.0) {
+            throw new IllegalArgumentException("Crossover rate must be between 0.0 and 1.0");
+        }
+        this.crossoverRate = crossoverRate;
+    }
+
+    public void setMutationRate(double mutationRate) {
+        if (mutationRate < 0.0 || mutationRate > 1.0) {
+            throw new IllegalArgumentException("Mutation rate must be between 0.0 and 1.0");
+        }
+        this.mutationRate = mutationRate;
+    }
+
+    public void setMutation(Mutation mutation) {
+        this.mutation = mutation;
+    }
+
+    public int getGenerationsRun() {
+        return generationsRun;
+    }
+}
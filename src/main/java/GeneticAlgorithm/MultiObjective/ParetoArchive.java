@@ -0,0 +1,83 @@
+package GeneticAlgorithm.MultiObjective;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Every non-dominated (on-time deliveries, route time) trade-off seen so far, one solution per point.
+// With two objectives the front is a staircase: keyed by on-time deliveries, route time strictly
+// increases with the key. A candidate is dominated iff the entry with the next key at or above its own
+// has a route time at most its own, and the entries it dominates are a contiguous run just below it,
+// so an offer is O(log n) plus the entries it removes.
+public class ParetoArchive {
+
+    private final TreeMap<Integer, Entry> front = new TreeMap<>();
+
+    // Returns true if the solution joined the front. The solution is cloned.
+    public boolean offer(Chromosome solution, int onTime, int routeTime) {
+        Map.Entry<Integer, Entry> above = front.ceilingEntry(onTime);
+        if (above != null && above.getValue().routeTime <= routeTime) {
+            return false;
+        }
+        Map.Entry<Integer, Entry> below = front.floorEntry(onTime);
+        while (below != null && below.getValue().routeTime >= routeTime) {
+            front.remove(below.getKey());
+            below = front.lowerEntry(below.getKey());
+        }
+        front.put(onTime, new Entry(solution.clone(), onTime, routeTime));
+        return true;
+    }
+
+    // Best on-time deliveries first
+    public List<Entry> getFront() {
+        return new ArrayList<>(front.descendingMap().values());
+    }
+
+    // Most on-time deliveries (and so the longest route on the front), or null when empty
+    public Entry getBest() {
+        Map.Entry<Integer, Entry> last = front.lastEntry();
+        return last == null ? null : last.getValue();
+    }
+
+    public int size() {
+        return front.size();
+    }
+
+    public void clear() {
+        front.clear();
+    }
+
+    public void printFront() {
+        System.out.println("Pareto front (" + front.size() + " trade-offs):");
+        for (Entry entry : front.descendingMap().values()) {
+            System.out.println("  on-time " + entry.onTime + ", route time " + entry.routeTime);
+        }
+    }
+
+    public static class Entry {
+        private final Chromosome solution;
+        private final int onTime;
+        private final int routeTime;
+
+        private Entry(Chromosome solution, int onTime, int routeTime) {
+            this.solution = solution;
+            this.onTime = onTime;
+            this.routeTime = routeTime;
+        }
+
+        public Chromosome getSolution() {
+            return solution;
+        }
+
+        public int getOnTimeDeliveries() {
+            return onTime;
+        }
+
+        public int getRouteTime() {
+            return routeTime;
+        }
+    }
+}
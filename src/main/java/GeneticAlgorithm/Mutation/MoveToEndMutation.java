@@ -0,0 +1,41 @@
+package GeneticAlgorithm.Mutation;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Chromosomes.IntegerChromosome;
+import GeneticAlgorithm.Helpers.RandomSource;
+
+import java.util.random.RandomGenerator;
+
+// Each gene moves to the end of the route with probability `rate`. Useful for pushing stops that
+// can't be reached in time out of the way.
+public class MoveToEndMutation implements Mutation {
+
+    @Override
+    public void mutate(Chromosome chromosome, double rate, int currentGen, int maxGen) {
+        IntegerChromosome integer = (IntegerChromosome) chromosome;
+        int size = integer.getDeliverySequence().size();
+        if (rate <= 0.0 || size < 2) {
+            return;
+        }
+        RandomGenerator rand = RandomSource.get();
+        double logOneMinusP = Math.log1p(-rate);
+        // After a move the following genes shift left, so the next candidate sits at idx + gap
+        int remaining = size;
+        long idx = RandomSource.nextGap(rand, logOneMinusP);
+        while (idx < remaining) {
+            integer.mutateByBecomingLast((int) idx, 1.0);
+            remaining--;
+            idx += RandomSource.nextGap(rand, logOneMinusP);
+        }
+    }
+
+    @Override
+    public boolean supports(Chromosome chromosome) {
+        return chromosome instanceof IntegerChromosome;
+    }
+
+    @Override
+    public String toString() {
+        return "MoveToEndMutation";
+    }
+}
@@ -0,0 +1,11 @@
+package GeneticAlgorithm.Mutation;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+
+public interface Mutation {
+
+    // rate is the per-gene mutation probability; currentGen/maxGen are for schedules like non-uniform mutation
+    void mutate(Chromosome chromosome, double rate, int currentGen, int maxGen);
+
+    boolean supports(Chromosome chromosome);
+}
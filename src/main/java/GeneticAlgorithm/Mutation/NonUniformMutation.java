@@ -0,0 +1,23 @@
+package GeneticAlgorithm.Mutation;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Chromosomes.FloatingPointChromosome;
+
+// Random-key non-uniform mutation: steps shrink as currentGen approaches maxGen (mutateMethod2)
+public class NonUniformMutation implements Mutation {
+
+    @Override
+    public void mutate(Chromosome chromosome, double rate, int currentGen, int maxGen) {
+        ((FloatingPointChromosome) chromosome).mutateMethod2(rate, currentGen, maxGen);
+    }
+
+    @Override
+    public boolean supports(Chromosome chromosome) {
+        return chromosome instanceof FloatingPointChromosome;
+    }
+
+    @Override
+    public String toString() {
+        return "NonUniformMutation";
+    }
+}
@@ -0,0 +1,24 @@
+package GeneticAlgorithm.Mutation;
+
+import GeneticAlgorithm.Chromosomes.BinaryChromosome;
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Chromosomes.IntegerChromosome;
+
+// Swaps stops around: per gene for IntegerChromosome, one swap for BinaryChromosome (their mutateMethod1)
+public class SwapMutation implements Mutation {
+
+    @Override
+    public void mutate(Chromosome chromosome, double rate, int currentGen, int maxGen) {
+        chromosome.mutateMethod1(rate);
+    }
+
+    @Override
+    public boolean supports(Chromosome chromosome) {
+        return chromosome instanceof IntegerChromosome || chromosome instanceof BinaryChromosome;
+    }
+
+    @Override
+    public String toString() {
+        return "SwapMutation";
+    }
+}
@@ -0,0 +1,23 @@
+package GeneticAlgorithm.Mutation;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Chromosomes.FloatingPointChromosome;
+
+// Random-key uniform mutation (FloatingPointChromosome.mutateMethod1)
+public class UniformMutation implements Mutation {
+
+    @Override
+    public void mutate(Chromosome chromosome, double rate, int currentGen, int maxGen) {
+        chromosome.mutateMethod1(rate);
+    }
+
+    @Override
+    public boolean supports(Chromosome chromosome) {
+        return chromosome instanceof FloatingPointChromosome;
+    }
+
+    @Override
+    public String toString() {
+        return "UniformMutation";
+    }
+}
@@ -0,0 +1,141 @@
+package GeneticAlgorithm.Population;
+
+// Approximate quantiles with a relative error bound, in the style of DDSketch: values fall into
+// logarithmic buckets [gamma^(i-1), gamma^i) with gamma = (1 + accuracy) / (1 - accuracy), so the
+// centre of a bucket is within `accuracy` of every value in it. Negative values get a mirrored set of
+// buckets. Counts can be decremented, so values can be removed again.
+public class QuantileSketch {
+
+    private final double accuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final Buckets positive = new Buckets();
+    private final Buckets negative = new Buckets();
+    private long zeroCount = 0;
+    private long count = 0;
+
+    public QuantileSketch() {
+        this(0.01);
+    }
+
+    public QuantileSketch(double accuracy) {
+        if (accuracy <= 0.0 || accuracy >= 1.0) {
+            throw new IllegalArgumentException("Accuracy must be between 0.0 and 1.0 (exclusive)");
+        }
+        this.accuracy = accuracy;
+        this.gamma = (1.0 + accuracy) / (1.0 - accuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    public void add(double value) {
+        update(value, 1);
+    }
+
+    // The value must have been added before
+    public void remove(double value) {
+        if (count == 0) {
+            throw new IllegalStateException("Sketch is empty");
+        }
+        update(value, -1);
+    }
+
+    private void update(double value, int delta) {
+        if (value > 0.0) {
+            positive.add(index(value), delta);
+        } else if (value < 0.0) {
+            negative.add(index(-value), delta);
+        } else {
+            zeroCount += delta;
+        }
+        count += delta;
+    }
+
+    private int index(double magnitude) {
+        return (int) Math.ceil(Math.log(magnitude) / logGamma);
+    }
+
+    private double value(int index) {
+        return 2.0 * Math.pow(gamma, index) / (gamma + 1.0);
+    }
+
+    // q in [0, 1]; NaN when empty
+    public double quantile(double q) {
+        if (q < 0.0 || q > 1.0) {
+            throw new IllegalArgumentException("Quantile must be between 0.0 and 1.0");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) Math.floor(q * (count - 1));
+        // Most negative first: the negative buckets from the largest magnitude down
+        long seen = 0;
+        for (int i = negative.maxIndex(); i >= negative.offset; i--) {
+            seen += negative.get(i);
+            if (seen > rank) {
+                return -value(i);
+            }
+        }
+        seen += zeroCount;
+        if (seen > rank) {
+            return 0.0;
+        }
+        for (int i = positive.offset; i <= positive.maxIndex(); i++) {
+            seen += positive.get(i);
+            if (seen > rank) {
+                return value(i);
+            }
+        }
+        return value(positive.maxIndex());
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getAccuracy() {
+        return accuracy;
+    }
+
+    public void clear() {
+        positive.clear();
+        negative.clear();
+        zeroCount = 0;
+        count = 0;
+    }
+
+    // Dense counts for the bucket indices offset .. offset + counts.length - 1, grown on demand
+    private static final class Buckets {
+        private long[] counts = new long[0];
+        private int offset = 0;
+
+        void add(int index, int delta) {
+            if (counts.length == 0) {
+                counts = new long[16];
+                offset = index - 8;
+            } else if (index < offset || index >= offset + counts.length) {
+                int low = Math.min(offset, index);
+                int high = Math.max(offset + counts.length, index + 1);
+                int span = high - low;
+                long[] grown = new long[Math.max(span, counts.length * 2)];
+                int newOffset = low - (index < offset ? grown.length - span : 0);
+                System.arraycopy(counts, 0, grown, offset - newOffset, counts.length);
+                counts = grown;
+                offset = newOffset;
+            }
+            counts[index - offset] += delta;
+        }
+
+        long get(int index) {
+            return counts[index - offset];
+        }
+
+        int maxIndex() {
+            return offset + counts.length - 1;
+        }
+
+        void clear() {
+            counts = new long[0];
+            offset = 0;
+        }
+    }
+}
@@ -0,0 +1,441 @@
+package GeneticAlgorithm.Population;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+// Population kept in rank order: get(0) is the best individual, get(size() - 1) the worst.
+// Order is fitness descending, then route time ascending, then insertion order.
+// Backed by a treap with subtree sizes, so add, remove and get(rank) are O(log n), best() is
+// O(log n) and top(k) is O(k + log n). Fitness and route time are read once on insertion: a
+// chromosome must not be mutated while it is in the population.
+// Running statistics of fitness and route time are kept up to date on every add and remove.
+public class RankedPopulation extends AbstractList<Chromosome> {
+
+    // addAll() rebuilds the tree once it adds at least 1/BULK_INSERT_RATIO of the current size
+    private static final int BULK_INSERT_RATIO = 8;
+
+    private Node root;
+    private long nextSequence = 0;
+    private final Map<Chromosome, Node> nodes = new IdentityHashMap<>();
+    private final SplittableRandom priorities = new SplittableRandom();
+    private final RunningStatistics fitnessStatistics = new RunningStatistics();
+    private final RunningStatistics routeTimeStatistics = new RunningStatistics();
+
+    public RankedPopulation() {
+    }
+
+    // O(n log n): sorts once, then builds the treap in a single pass
+    public RankedPopulation(Collection<? extends Chromosome> chromosomes) {
+        List<Node> sorted = new ArrayList<>(chromosomes.size());
+        for (Chromosome c : chromosomes) {
+            Node node = newNode(c);
+            sorted.add(node);
+        }
+        sorted.sort(RankedPopulation::compare);
+        root = buildCartesianTree(sorted);
+    }
+
+    // ==================== Rank queries ====================
+
+    public Chromosome best() {
+        if (root == null) {
+            throw new NoSuchElementException("Population is empty");
+        }
+        Node node = root;
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.chromosome;
+    }
+
+    public Chromosome worst() {
+        if (root == null) {
+            throw new NoSuchElementException("Population is empty");
+        }
+        Node node = root;
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node.chromosome;
+    }
+
+    // The best k individuals, best first
+    public List<Chromosome> top(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be non-negative");
+        }
+        List<Chromosome> result = new ArrayList<>(Math.min(k, size()));
+        Iterator<Chromosome> it = iterator();
+        while (result.size() < k && it.hasNext()) {
+            result.add(it.next());
+        }
+        return result;
+    }
+
+    // 0-based rank of a chromosome in this population, or -1 if absent
+    public int rankOf(Chromosome chromosome) {
+        Node target = nodes.get(chromosome);
+        if (target == null) {
+            return -1;
+        }
+        int rank = 0;
+        Node node = root;
+        while (node != target) {
+            if (compare(target, node) < 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank + size(node.left);
+    }
+
+    // ==================== Statistics ====================
+
+    // Exact min and max fitness are best() and worst(); route time extremes are getQuantile(0) and (1)
+    public RunningStatistics getFitnessStatistics() {
+        return fitnessStatistics;
+    }
+
+    public RunningStatistics getRouteTimeStatistics() {
+        return routeTimeStatistics;
+    }
+
+    // ==================== List operations ====================
+
+    @Override
+    public Chromosome get(int index) {
+        checkIndex(index);
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.chromosome;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    // Inserted at its rank, not at the end
+    @Override
+    public boolean add(Chromosome chromosome) {
+        if (nodes.containsKey(chromosome)) {
+            throw new IllegalArgumentException("Chromosome is already in the population");
+        }
+        Node node = newNode(chromosome);
+        Node[] parts = splitByKey(root, node);
+        root = merge(merge(parts[0], node), parts[1]);
+        modCount++;
+        return true;
+    }
+
+    // Many at once: each is inserted on its own if they are few next to the population, otherwise they
+    // are sorted and merged with the current order, and the tree is rebuilt in one pass:
+    // O(n + m log m) instead of O(m log n) through the recursive inserts
+    @Override
+    public boolean addAll(Collection<? extends Chromosome> chromosomes) {
+        if (chromosomes.isEmpty()) {
+            return false;
+        }
+        if (chromosomes.size() * BULK_INSERT_RATIO < size()) {
+            for (Chromosome c : chromosomes) {
+                add(c);
+            }
+            return true;
+        }
+        Map<Chromosome, Boolean> incoming = new IdentityHashMap<>();
+        for (Chromosome c : chromosomes) {
+            if (nodes.containsKey(c) || incoming.put(c, Boolean.TRUE) != null) {
+                throw new IllegalArgumentException("Chromosome is already in the population");
+            }
+        }
+        List<Node> added = new ArrayList<>(chromosomes.size());
+        for (Chromosome c : chromosomes) {
+            added.add(newNode(c));
+        }
+        added.sort(RankedPopulation::compare);
+
+        List<Node> merged = new ArrayList<>(size() + added.size());
+        Deque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        int next = 0;
+        while (node != null || !stack.isEmpty()) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            Node current = stack.pop();
+            node = current.right;
+            while (next < added.size() && compare(added.get(next), current) < 0) {
+                merged.add(added.get(next++));
+            }
+            current.left = null;
+            current.right = null;
+            merged.add(current);
+        }
+        merged.addAll(added.subList(next, added.size()));
+        root = buildCartesianTree(merged);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public Chromosome remove(int index) {
+        checkIndex(index);
+        Node[] left = splitBySize(root, index);
+        Node[] right = splitBySize(left[1], 1);
+        root = merge(left[0], right[1]);
+        Chromosome removed = right[0].chromosome;
+        nodes.remove(removed);
+        fitnessStatistics.remove(right[0].fitness);
+        routeTimeStatistics.remove(right[0].routeTime);
+        modCount++;
+        return removed;
+    }
+
+    // Keeps the best k individuals and drops the rest: O(log n) plus the number dropped
+    public void truncate(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be non-negative");
+        }
+        if (k >= size()) {
+            return;
+        }
+        Node[] parts = splitBySize(root, k);
+        root = parts[0];
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(parts[1]);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            nodes.remove(node.chromosome);
+            fitnessStatistics.remove(node.fitness);
+            routeTimeStatistics.remove(node.routeTime);
+            if (node.left != null) {
+                stack.push(node.left);
+            }
+            if (node.right != null) {
+                stack.push(node.right);
+            }
+        }
+        modCount++;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Chromosome) || !nodes.containsKey(o)) {
+            return false;
+        }
+        remove(rankOf((Chromosome) o));
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return nodes.containsKey(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return o instanceof Chromosome ? rankOf((Chromosome) o) : -1;
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        nodes.clear();
+        fitnessStatistics.clear();
+        routeTimeStatistics.clear();
+        modCount++;
+    }
+
+    // In-order walk, O(n) for a full pass instead of O(n log n) through get(i)
+    @Override
+    public Iterator<Chromosome> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node> stack = new ArrayDeque<>();
+            private final int expectedModCount = modCount;
+
+            {
+                pushLeft(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !stack.isEmpty();
+            }
+
+            @Override
+            public Chromosome next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (stack.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node node = stack.pop();
+                pushLeft(node.right);
+                return node.chromosome;
+            }
+
+            private void pushLeft(Node node) {
+                while (node != null) {
+                    stack.push(node);
+                    node = node.left;
+                }
+            }
+        };
+    }
+
+    // ==================== Treap internals ====================
+
+    private Node newNode(Chromosome chromosome) {
+        if (nodes.containsKey(chromosome)) {
+            throw new IllegalArgumentException("Chromosome is already in the population");
+        }
+        Node node = new Node(chromosome, chromosome.getFitness(), chromosome.getTotalRouteTime(),
+                nextSequence++, priorities.nextInt());
+        nodes.put(chromosome, node);
+        fitnessStatistics.add(node.fitness);
+        routeTimeStatistics.add(node.routeTime);
+        return node;
+    }
+
+    private static int compare(Node a, Node b) {
+        if (a.fitness != b.fitness) {
+            return Integer.compare(b.fitness, a.fitness);
+        }
+        if (a.routeTime != b.routeTime) {
+            return Integer.compare(a.routeTime, b.routeTime);
+        }
+        return Long.compare(a.sequence, b.sequence);
+    }
+
+    // Nodes are already in order; a stack of the right spine turns them into a heap on priority
+    private static Node buildCartesianTree(List<Node> sorted) {
+        Deque<Node> spine = new ArrayDeque<>();
+        for (Node node : sorted) {
+            Node last = null;
+            while (!spine.isEmpty() && spine.peek().priority < node.priority) {
+                last = spine.pop();
+                update(last);
+            }
+            node.left = last;
+            if (!spine.isEmpty()) {
+                spine.peek().right = node;
+            }
+            spine.push(node);
+        }
+        Node top = null;
+        while (!spine.isEmpty()) {
+            top = spine.pop();
+            update(top);
+        }
+        return top;
+    }
+
+    // [nodes ordered before key, nodes ordered after key]
+    private static Node[] splitByKey(Node node, Node key) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(node, key) < 0) {
+            Node[] parts = splitByKey(node.right, key);
+            node.right = parts[0];
+            update(node);
+            return new Node[]{node, parts[1]};
+        }
+        Node[] parts = splitByKey(node.left, key);
+        node.left = parts[1];
+        update(node);
+        return new Node[]{parts[0], node};
+    }
+
+    // [first count nodes, the rest]
+    private static Node[] splitBySize(Node node, int count) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (size(node.left) < count) {
+            Node[] parts = splitBySize(node.right, count - size(node.left) - 1);
+            node.right = parts[0];
+            update(node);
+            return new Node[]{node, parts[1]};
+        }
+        Node[] parts = splitBySize(node.left, count);
+        node.left = parts[1];
+        update(node);
+        return new Node[]{parts[0], node};
+    }
+
+    private static Node merge(Node a, Node b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        update(b);
+        return b;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+        }
+    }
+
+    private static class Node {
+        final Chromosome chromosome;
+        final int fitness;
+        final int routeTime;
+        final long sequence;
+        final int priority;
+        Node left;
+        Node right;
+        int size = 1;
+
+        Node(Chromosome chromosome, int fitness, int routeTime, long sequence, int priority) {
+            this.chromosome = chromosome;
+            this.fitness = fitness;
+            this.routeTime = routeTime;
+            this.sequence = sequence;
+            this.priority = priority;
+        }
+    }
+}
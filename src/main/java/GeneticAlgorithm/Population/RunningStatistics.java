@@ -0,0 +1,89 @@
+package GeneticAlgorithm.Population;
+
+// Mean, variance and quantiles of a changing multiset of values, updated in O(1) per add or remove.
+// Mean and variance use Welford's update (and its inverse for removal); quantiles come from a
+// QuantileSketch, so they are within its relative accuracy.
+public class RunningStatistics {
+
+    private long count = 0;
+    private double mean = 0.0;
+    private double m2 = 0.0; // sum of squared deviations from the mean
+    private final QuantileSketch sketch;
+
+    public RunningStatistics() {
+        this(new QuantileSketch());
+    }
+
+    public RunningStatistics(QuantileSketch sketch) {
+        if (sketch == null) {
+            throw new IllegalArgumentException("Sketch cannot be null");
+        }
+        this.sketch = sketch;
+    }
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        sketch.add(value);
+    }
+
+    // The value must have been added before
+    public void remove(double value) {
+        if (count == 0) {
+            throw new IllegalStateException("No values to remove");
+        }
+        if (count == 1) {
+            clear();
+            return;
+        }
+        double delta = value - mean;
+        mean -= delta / (count - 1);
+        m2 = Math.max(0.0, m2 - delta * (value - mean));
+        count--;
+        sketch.remove(value);
+    }
+
+    public void clear() {
+        count = 0;
+        mean = 0.0;
+        m2 = 0.0;
+        sketch.clear();
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    // Population variance; 0 for fewer than two values
+    public double getVariance() {
+        return count < 2 ? 0.0 : m2 / count;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    // Approximate: within the sketch's relative accuracy
+    public double getQuantile(double q) {
+        return sketch.quantile(q);
+    }
+
+    public double getMedian() {
+        return sketch.quantile(0.5);
+    }
+
+    @Override
+    public String toString() {
+        if (count == 0) {
+            return "n=0";
+        }
+        return String.format("n=%d, mean=%.2f, sd=%.2f, p10=%.2f, p50=%.2f, p90=%.2f",
+                count, mean, getStandardDeviation(), getQuantile(0.1), getMedian(), getQuantile(0.9));
+    }
+}
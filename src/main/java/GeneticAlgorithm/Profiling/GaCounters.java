@@ -0,0 +1,21 @@
+package GeneticAlgorithm.Profiling;
+
+// Counters bumped from the chromosome classes, kept per thread. An engine runs on one thread, so
+// GaProfiler's per-generation deltas only see that engine's clones even when several engines run
+// at once (portfolio members, decomposition workers).
+public final class GaCounters {
+
+    private static final ThreadLocal<long[]> clones = ThreadLocal.withInitial(() -> new long[1]);
+
+    private GaCounters() {
+    }
+
+    public static void recordClone() {
+        clones.get()[0]++;
+    }
+
+    // Clones made so far by the calling thread
+    public static long getCloneCount() {
+        return clones.get()[0];
+    }
+}
@@ -0,0 +1,197 @@
+package GeneticAlgorithm.Profiling;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+// Per-phase timers and per-generation counters for one GeneticAlgorithm.
+// Meant to be driven from the engine thread only:
+//   long t = profiler.start(); ...work...; t = profiler.lap(Phase.SELECTION, t); ...
+public class GaProfiler {
+
+    private static final Phase[] PHASES = Phase.values();
+    // Per-generation profiles kept; older ones only survive in the histograms and totals
+    private static final int MAX_GENERATION_PROFILES = 1000;
+
+    private boolean enabled = true;
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+    private final long[] totalPhaseNanos = new long[PHASES.length];
+    private final long[] generationPhaseNanos = new long[PHASES.length];
+    private final ArrayDeque<GenerationProfile> generationProfiles = new ArrayDeque<>();
+    private int generations;
+
+    private final com.sun.management.ThreadMXBean allocationBean;
+    private LongSupplier evaluationCounter = () -> 0L;
+
+    private long generationStartEvaluations;
+    private long generationStartClones;
+    private long generationStartAllocated;
+    private long totalEvaluations;
+    private long totalClones;
+    private long totalAllocatedBytes;
+
+    public GaProfiler() {
+        for (int i = 0; i < PHASES.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemoryEnabled()) {
+            allocationBean = (com.sun.management.ThreadMXBean) bean;
+        } else {
+            allocationBean = null;
+        }
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEvaluationCounter(LongSupplier evaluationCounter) {
+        this.evaluationCounter = evaluationCounter;
+    }
+
+    // ==================== Phase timing ====================
+
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    // Charges the time since startNanos to the phase and returns "now" so laps can be chained
+    public long lap(Phase phase, long startNanos) {
+        if (!enabled) {
+            return 0L;
+        }
+        long now = System.nanoTime();
+        long elapsed = now - startNanos;
+        int idx = phase.ordinal();
+        histograms[idx].record(elapsed);
+        generationPhaseNanos[idx] += elapsed;
+        totalPhaseNanos[idx] += elapsed;
+        return now;
+    }
+
+    // ==================== Generation bookkeeping ====================
+
+    public void beginGeneration() {
+        if (!enabled) {
+            return;
+        }
+        for (int i = 0; i < generationPhaseNanos.length; i++) {
+            generationPhaseNanos[i] = 0;
+        }
+        generationStartEvaluations = evaluationCounter.getAsLong();
+        generationStartClones = GaCounters.getCloneCount();
+        generationStartAllocated = allocatedBytes();
+    }
+
+    public GenerationProfile endGeneration(int generation) {
+        if (!enabled) {
+            return null;
+        }
+        long evaluations = evaluationCounter.getAsLong() - generationStartEvaluations;
+        long clones = GaCounters.getCloneCount() - generationStartClones;
+        long allocated = allocationBean == null ? -1 : allocatedBytes() - generationStartAllocated;
+
+        totalEvaluations += evaluations;
+        totalClones += clones;
+        if (allocated > 0) {
+            totalAllocatedBytes += allocated;
+        }
+
+        GenerationProfile profile = new GenerationProfile(generation, generationPhaseNanos, evaluations, clones, allocated);
+        if (generationProfiles.size() == MAX_GENERATION_PROFILES) {
+            generationProfiles.removeFirst();
+        }
+        generationProfiles.add(profile);
+        generations++;
+        return profile;
+    }
+
+    private long allocatedBytes() {
+        return allocationBean == null ? 0 : allocationBean.getCurrentThreadAllocatedBytes();
+    }
+
+    // ==================== Getters ====================
+
+    public LatencyHistogram getHistogram(Phase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    public long getTotalNanos(Phase phase) {
+        return totalPhaseNanos[phase.ordinal()];
+    }
+
+    // The most recent generations, oldest first (at most MAX_GENERATION_PROFILES)
+    public List<GenerationProfile> getGenerationProfiles() {
+        return new ArrayList<>(generationProfiles);
+    }
+
+    public GenerationProfile getLastGeneration() {
+        return generationProfiles.peekLast();
+    }
+
+    public int getGenerationCount() {
+        return generations;
+    }
+
+    public long getTotalEvaluations() {
+        return totalEvaluations;
+    }
+
+    public long getTotalClones() {
+        return totalClones;
+    }
+
+    public long getTotalAllocatedBytes() {
+        return allocationBean == null ? -1 : totalAllocatedBytes;
+    }
+
+    public void reset() {
+        for (int i = 0; i < PHASES.length; i++) {
+            histograms[i].reset();
+            totalPhaseNanos[i] = 0;
+            generationPhaseNanos[i] = 0;
+        }
+        generationProfiles.clear();
+        generations = 0;
+        totalEvaluations = 0;
+        totalClones = 0;
+        totalAllocatedBytes = 0;
+    }
+
+    public void printReport() {
+        if (!enabled || generations == 0) {
+            System.out.println("\nProfiler: no generations recorded");
+            return;
+        }
+        long allPhases = 0;
+        for (long nanos : totalPhaseNanos) {
+            allPhases += nanos;
+        }
+
+        System.out.println("\nProfiler (" + generations + " generations):");
+        System.out.println(String.format("  %-12s %10s %7s %10s %10s %10s %10s",
+                "Phase", "Total ms", "Share", "Mean us", "p50 us", "p99 us", "Max us"));
+        for (Phase phase : PHASES) {
+            LatencyHistogram h = histograms[phase.ordinal()];
+            long total = totalPhaseNanos[phase.ordinal()];
+            System.out.println(String.format("  %-12s %10.2f %6.1f%% %10.2f %10.2f %10.2f %10.2f",
+                    phase, total / 1e6, allPhases == 0 ? 0.0 : 100.0 * total / allPhases,
+                    h.getMeanNanos() / 1e3, h.percentile(50) / 1e3, h.percentile(99) / 1e3, h.getMaxNanos() / 1e3));
+        }
+        System.out.println("  Evaluations per generation: " + String.format("%.1f", (double) totalEvaluations / generations));
+        System.out.println("  Clones per generation: " + String.format("%.1f", (double) totalClones / generations));
+        if (allocationBean != null) {
+            System.out.println("  Allocated KB per generation: " + String.format("%.1f", totalAllocatedBytes / 1024.0 / generations));
+        }
+    }
+}
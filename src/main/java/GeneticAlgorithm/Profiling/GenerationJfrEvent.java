@@ -0,0 +1,36 @@
+package GeneticAlgorithm.Profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// One event per GA generation; its start/end times mark the generation boundaries.
+// The engine creates one every generation either way, a small short-lived object; reading the
+// evaluation count and writing the fields are skipped unless a recording has the event enabled.
+@Name("GeneticAlgorithm.Generation")
+@Label("GA Generation")
+@Category({"Delivery Optimization", "Genetic Algorithm"})
+@Description("One generation of GeneticAlgorithm.run()")
+@StackTrace(false)
+public class GenerationJfrEvent extends Event {
+
+    @Label("Generation")
+    public int generation;
+
+    @Label("Best Fitness")
+    @Description("Best fitness in the population after replacement")
+    public int bestFitness;
+
+    @Label("Best So Far")
+    public int bestSoFar;
+
+    @Label("Evaluations")
+    @Description("Fitness evaluations performed during this generation")
+    public long evaluations;
+
+    @Label("Population Size")
+    public int populationSize;
+}
@@ -0,0 +1,55 @@
+package GeneticAlgorithm.Profiling;
+
+import java.util.Arrays;
+
+// What one generation cost: time per phase plus evaluation, clone and allocation counts
+public class GenerationProfile {
+
+    private final int generation;
+    private final long[] phaseNanos;
+    private final long evaluations;
+    private final long clones;
+    private final long allocatedBytes;
+
+    public GenerationProfile(int generation, long[] phaseNanos, long evaluations, long clones, long allocatedBytes) {
+        this.generation = generation;
+        this.phaseNanos = phaseNanos.clone();
+        this.evaluations = evaluations;
+        this.clones = clones;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public long getPhaseNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    public long getTotalNanos() {
+        return Arrays.stream(phaseNanos).sum();
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public long getClones() {
+        return clones;
+    }
+
+    // -1 when the JVM cannot report per-thread allocation
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "GenerationProfile{generation=" + generation +
+                ", phaseNanos=" + Arrays.toString(phaseNanos) +
+                ", evaluations=" + evaluations +
+                ", clones=" + clones +
+                ", allocatedBytes=" + allocatedBytes + "}";
+    }
+}
@@ -0,0 +1,77 @@
+package GeneticAlgorithm.Profiling;
+
+import java.util.Arrays;
+
+// Power-of-two bucketed latency histogram: bucket b holds samples in [2^(b-1), 2^b) nanoseconds.
+// Recording is a couple of array writes, so it can sit inside the generation loop.
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final long[] buckets = new long[BUCKETS];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        buckets[bucketOf(nanos)]++;
+        count++;
+        totalNanos += nanos;
+        if (nanos > maxNanos) {
+            maxNanos = nanos;
+        }
+    }
+
+    private static int bucketOf(long nanos) {
+        return Math.min(BUCKETS - 1, BUCKETS - Long.numberOfLeadingZeros(nanos));
+    }
+
+    // Upper bound of the bucket containing the p-th percentile (0 < p <= 100)
+    public long percentile(double p) {
+        if (p <= 0 || p > 100) {
+            throw new IllegalArgumentException("Percentile must be in (0, 100]");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(p / 100.0 * count);
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += buckets[b];
+            if (seen >= rank) {
+                return Math.min(b == 0 ? 0 : 1L << b, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getMeanNanos() {
+        return count == 0 ? 0.0 : (double) totalNanos / count;
+    }
+
+    public long[] getBuckets() {
+        return buckets.clone();
+    }
+
+    public void reset() {
+        Arrays.fill(buckets, 0);
+        count = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+}
@@ -0,0 +1,5 @@
+package GeneticAlgorithm.Profiling;
+
+public enum Phase {
+    SELECTION, CROSSOVER, MUTATION, EVALUATION, REPLACEMENT
+}
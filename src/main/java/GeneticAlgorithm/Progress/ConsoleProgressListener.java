@@ -0,0 +1,35 @@
+package GeneticAlgorithm.Progress;
+
+// Prints the classic "Generation N - Best ... - Avg ..." line every `interval` generations
+public class ConsoleProgressListener implements ProgressListener {
+
+    private final int interval;
+
+    public ConsoleProgressListener() {
+        this(10);
+    }
+
+    public ConsoleProgressListener(int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Interval must be at least 1");
+        }
+        this.interval = interval;
+    }
+
+    @Override
+    public void onGeneration(ProgressEvent event) {
+        int gen = event.getGeneration();
+        if (gen % interval == 0 || gen == 1 || event.isLastGeneration()) {
+            System.out.println("Generation " + gen +
+                    " - Best GeneticAlgorithm.Fitness: " + event.getBestFitness() +
+                    " - Avg GeneticAlgorithm.Fitness: " + String.format("%.2f", event.getAverageFitness()) +
+                    " - Diversity: " + String.format("%.3f", event.getDiversity()) +
+                    (event.getOptimalityGap() >= 0.0 ? " - Gap: " + String.format("%.2f", event.getOptimalityGap()) : ""));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConsoleProgressListener{interval=" + interval + "}";
+    }
+}
@@ -0,0 +1,90 @@
+package GeneticAlgorithm.Progress;
+
+// Immutable snapshot of one generation, published by GeneticAlgorithm to its listeners
+public class ProgressEvent {
+
+    private final int generation;
+    private final int totalGenerations;
+    private final int bestFitness;
+    private final int bestSoFar;
+    private final double averageFitness;
+    private final long evaluations;
+    private final long elapsedNanos;
+    private final double diversity;
+    private final double optimalityGap;
+
+    public ProgressEvent(int generation, int totalGenerations, int bestFitness, int bestSoFar,
+                         double averageFitness, long evaluations, long elapsedNanos, double diversity,
+                         double optimalityGap) {
+        this.generation = generation;
+        this.totalGenerations = totalGenerations;
+        this.bestFitness = bestFitness;
+        this.bestSoFar = bestSoFar;
+        this.averageFitness = averageFitness;
+        this.evaluations = evaluations;
+        this.elapsedNanos = elapsedNanos;
+        this.diversity = diversity;
+        this.optimalityGap = optimalityGap;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public int getTotalGenerations() {
+        return totalGenerations;
+    }
+
+    public boolean isLastGeneration() {
+        return generation == totalGenerations;
+    }
+
+    // Best fitness in the current population
+    public int getBestFitness() {
+        return bestFitness;
+    }
+
+    // Best fitness seen since the run started
+    public int getBestSoFar() {
+        return bestSoFar;
+    }
+
+    public double getAverageFitness() {
+        return averageFitness;
+    }
+
+    // Fitness evaluations performed since the run started
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getElapsedMillis() {
+        return elapsedNanos / 1_000_000.0;
+    }
+
+    // Population diversity in [0, 1], see DiversityTracker
+    public double getDiversity() {
+        return diversity;
+    }
+
+    // Distance of the best-so-far from the objective bound, see ObjectiveBound; -1 when unknown
+    public double getOptimalityGap() {
+        return optimalityGap;
+    }
+
+    @Override
+    public String toString() {
+        return "ProgressEvent{generation=" + generation +
+                ", bestFitness=" + bestFitness +
+                ", bestSoFar=" + bestSoFar +
+                ", averageFitness=" + averageFitness +
+                ", evaluations=" + evaluations +
+                ", elapsedNanos=" + elapsedNanos +
+                ", diversity=" + diversity +
+                ", optimalityGap=" + optimalityGap + "}";
+    }
+}
@@ -0,0 +1,11 @@
+package GeneticAlgorithm.Progress;
+
+// Called on the engine thread after every generation, so implementations must return quickly
+// and hand slow work (I/O, network) to another thread.
+public interface ProgressListener {
+
+    void onGeneration(ProgressEvent event);
+
+    default void onCompleted(ProgressEvent finalEvent) {
+    }
+}
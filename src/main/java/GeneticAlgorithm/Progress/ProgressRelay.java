@@ -0,0 +1,62 @@
+package GeneticAlgorithm.Progress;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Fans progress events out to any number of consumer queues without ever blocking the engine.
+// Each subscriber gets a bounded queue; when a slow consumer falls behind, its oldest event is dropped.
+public class ProgressRelay implements ProgressListener {
+
+    private final Set<BlockingQueue<ProgressEvent>> subscribers = ConcurrentHashMap.newKeySet();
+    private volatile ProgressEvent lastEvent;
+    private volatile boolean completed = false;
+
+    public BlockingQueue<ProgressEvent> subscribe(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        BlockingQueue<ProgressEvent> queue = new ArrayBlockingQueue<>(capacity);
+        subscribers.add(queue);
+        return queue;
+    }
+
+    public void unsubscribe(BlockingQueue<ProgressEvent> queue) {
+        subscribers.remove(queue);
+    }
+
+    @Override
+    public void onGeneration(ProgressEvent event) {
+        lastEvent = event;
+        for (BlockingQueue<ProgressEvent> queue : subscribers) {
+            push(queue, event);
+        }
+    }
+
+    @Override
+    public void onCompleted(ProgressEvent finalEvent) {
+        if (finalEvent != null) {
+            lastEvent = finalEvent;
+        }
+        completed = true;
+    }
+
+    private void push(BlockingQueue<ProgressEvent> queue, ProgressEvent event) {
+        while (!queue.offer(event)) {
+            queue.poll();
+        }
+    }
+
+    public ProgressEvent getLastEvent() {
+        return lastEvent;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+}
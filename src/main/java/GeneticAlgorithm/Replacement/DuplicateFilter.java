@@ -0,0 +1,55 @@
+package GeneticAlgorithm.Replacement;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Reorders offspring so tours not already in `survivors` (or earlier in the offspring) come first.
+// Duplicates are kept at the back, so a strategy taking the first N still gets a full population
+// when there aren't enough distinct tours.
+final class DuplicateFilter {
+
+    private DuplicateFilter() {
+    }
+
+    static List<Chromosome> distinctFirst(List<Chromosome> offspring, List<Chromosome> survivors) {
+        Map<Long, List<Chromosome>> seen = new HashMap<>();
+        for (Chromosome c : survivors) {
+            remember(seen, c);
+        }
+
+        List<Chromosome> distinct = new ArrayList<>(offspring.size());
+        List<Chromosome> duplicates = new ArrayList<>();
+        for (Chromosome c : offspring) {
+            if (contains(seen, c)) {
+                duplicates.add(c);
+            } else {
+                remember(seen, c);
+                distinct.add(c);
+            }
+        }
+        distinct.addAll(duplicates);
+        return distinct;
+    }
+
+    private static void remember(Map<Long, List<Chromosome>> seen, Chromosome c) {
+        seen.computeIfAbsent(c.sequenceHash(), h -> new ArrayList<>(1)).add(c);
+    }
+
+    // Hash first, then the sequence itself so a 64-bit collision can't drop a distinct tour
+    private static boolean contains(Map<Long, List<Chromosome>> seen, Chromosome c) {
+        List<Chromosome> bucket = seen.get(c.sequenceHash());
+        if (bucket == null) {
+            return false;
+        }
+        for (Chromosome other : bucket) {
+            if (other.getDeliverySequence().equals(c.getDeliverySequence())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,6 +1,7 @@
 package GeneticAlgorithm.Replacement;
 
 import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Population.RankedPopulation;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -10,37 +11,33 @@ import java.util.List;
 public class ElitistReplacement implements ReplacementStrategy {
     
     private final int eliteCount;
+    private final boolean eliminateDuplicates;
     
     public ElitistReplacement(int eliteCount) {
+        this(eliteCount, false);
+    }
+    
+    // With eliminateDuplicates, offspring that repeat an elite or an earlier child are only used
+    // when there aren't enough distinct ones
+    public ElitistReplacement(int eliteCount, boolean eliminateDuplicates) {
         if (eliteCount < 1) {
             throw new IllegalArgumentException("Elite count must be at least 1");
         }
         this.eliteCount = eliteCount;
+        this.eliminateDuplicates = eliminateDuplicates;
     }
     
     @Override
     public List<Chromosome> replace(List<Chromosome> currentPopulation, List<Chromosome> offspring) {
-        if (currentPopulation == null || currentPopulation.isEmpty()) {
-            throw new IllegalArgumentException("Current population cannot be null or empty");
-        }
-        if (offspring == null || offspring.isEmpty()) {
-            throw new IllegalArgumentException("Offspring cannot be null or empty");
-        }
-        
-        int populationSize = currentPopulation.size();
-        
-        if (eliteCount >= populationSize) {
-            throw new IllegalArgumentException("Elite count must be less than population size");
-        }
-        
-        int offspringNeeded = populationSize - eliteCount;
-        if (offspring.size() < offspringNeeded) {
-            throw new IllegalArgumentException("Not enough offspring");
-        }
+        int offspringNeeded = checkSizes(currentPopulation, offspring);
         
         // Get elite individuals (best-so-far)
         List<Chromosome> elites = getEliteIndividuals(currentPopulation, eliteCount);
         
+        if (eliminateDuplicates) {
+            offspring = DuplicateFilter.distinctFirst(offspring, elites);
+        }
+        
         List<Chromosome> nextGeneration = new ArrayList<>();
         
         // Copy elites to next generation
@@ -56,7 +53,50 @@ public class ElitistReplacement implements ReplacementStrategy {
         return nextGeneration;
     }
     
+    // The elites stay where they are, everything below them is dropped and the offspring are merged in
+    // with RankedPopulation.addAll; nothing is cloned
+    @Override
+    public void replaceInPlace(RankedPopulation population, List<Chromosome> offspring) {
+        int offspringNeeded = checkSizes(population, offspring);
+        if (eliminateDuplicates) {
+            offspring = DuplicateFilter.distinctFirst(offspring, population.top(eliteCount));
+        }
+        population.truncate(eliteCount);
+        List<Chromosome> arriving = new ArrayList<>(offspringNeeded);
+        for (int i = 0; i < offspringNeeded; i++) {
+            Chromosome child = offspring.get(i);
+            arriving.add(population.contains(child) ? child.clone() : child);
+        }
+        population.addAll(arriving);
+    }
+    
+    // Number of offspring the next generation takes
+    private int checkSizes(List<Chromosome> currentPopulation, List<Chromosome> offspring) {
+        if (currentPopulation == null || currentPopulation.isEmpty()) {
+            throw new IllegalArgumentException("Current population cannot be null or empty");
+        }
+        if (offspring == null || offspring.isEmpty()) {
+            throw new IllegalArgumentException("Offspring cannot be null or empty");
+        }
+        
+        int populationSize = currentPopulation.size();
+        
+        if (eliteCount >= populationSize) {
+            throw new IllegalArgumentException("Elite count must be less than population size");
+        }
+        
+        int offspringNeeded = populationSize - eliteCount;
+        if (offspring.size() < offspringNeeded) {
+            throw new IllegalArgumentException("Not enough offspring");
+        }
+        return offspringNeeded;
+    }
+    
     private List<Chromosome> getEliteIndividuals(List<Chromosome> population, int count) {
+        if (population instanceof RankedPopulation) {
+            return ((RankedPopulation) population).top(count);
+        }
+        
         List<Chromosome> sortedPopulation = new ArrayList<>(population);
         
         // Sort by fitness descending (best first)
@@ -79,8 +119,12 @@ public class ElitistReplacement implements ReplacementStrategy {
         return eliteCount;
     }
     
+    public boolean isEliminatingDuplicates() {
+        return eliminateDuplicates;
+    }
+    
     @Override
     public String toString() {
-        return "ElitistReplacement{count=" + eliteCount + "}";
+        return "ElitistReplacement{count=" + eliteCount + (eliminateDuplicates ? ", distinct" : "") + "}";
     }
 }
@@ -1,14 +1,56 @@
 package GeneticAlgorithm.Replacement;
 
 import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Population.RankedPopulation;
 import java.util.ArrayList;
 import java.util.List;
 
 
 public class GenerationalReplacement implements ReplacementStrategy {
     
+    private final boolean eliminateDuplicates;
+    
+    public GenerationalReplacement() {
+        this(false);
+    }
+    
+    public GenerationalReplacement(boolean eliminateDuplicates) {
+        this.eliminateDuplicates = eliminateDuplicates;
+    }
+    
     @Override
     public List<Chromosome> replace(List<Chromosome> currentPopulation, List<Chromosome> offspring) {
+        int populationSize = checkSizes(currentPopulation, offspring);
+        if (eliminateDuplicates) {
+            offspring = DuplicateFilter.distinctFirst(offspring, new ArrayList<>());
+        }
+        
+        // Replace entire population with offspring
+        List<Chromosome> nextGeneration = new ArrayList<>();
+        for (int i = 0; i < populationSize; i++) {
+            nextGeneration.add(offspring.get(i).clone());
+        }
+        
+        return nextGeneration;
+    }
+    
+    // The whole population is replaced, so the offspring go in without cloning
+    @Override
+    public void replaceInPlace(RankedPopulation population, List<Chromosome> offspring) {
+        int populationSize = checkSizes(population, offspring);
+        if (eliminateDuplicates) {
+            offspring = DuplicateFilter.distinctFirst(offspring, new ArrayList<>());
+        }
+        population.clear();
+        List<Chromosome> arriving = new ArrayList<>(populationSize);
+        for (int i = 0; i < populationSize; i++) {
+            Chromosome child = offspring.get(i);
+            arriving.add(population.contains(child) ? child.clone() : child);
+        }
+        population.addAll(arriving);
+    }
+    
+    private static int checkSizes(List<Chromosome> currentPopulation, List<Chromosome> offspring) {
         if (currentPopulation == null || currentPopulation.isEmpty()) {
             throw new IllegalArgumentException("Current population cannot be null or empty");
         }
@@ -23,19 +65,12 @@ public class GenerationalReplacement implements ReplacementStrategy {
                 "Offspring size (" + offspring.size() + ") is less than population size (" + 
                 populationSize + ")");
         }
-        
-        // Replace entire population with offspring
-        List<Chromosome> nextGeneration = new ArrayList<>();
-        for (int i = 0; i < populationSize; i++) {
-            nextGeneration.add(offspring.get(i).clone());
-        }
-        
-        return nextGeneration;
+        return populationSize;
     }
 
     @Override
     public String toString() {
-        return "GenerationalReplacement";
+        return eliminateDuplicates ? "GenerationalReplacement{distinct}" : "GenerationalReplacement";
     }
 }
 
@@ -1,10 +1,20 @@
 package GeneticAlgorithm.Replacement;
 
 import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Population.RankedPopulation;
 import java.util.List;
 
 
 public interface ReplacementStrategy {
     List<Chromosome> replace(List<Chromosome> currentPopulation, List<Chromosome> offspring);
+    
+    // Same replacement, applied to a ranked population in place. Offspring are taken over rather than
+    // cloned (one that is still in the population is cloned), so the caller must not reuse them.
+    // The default rebuilds the population from replace(); strategies that keep part of it override
+    // this to only remove and add the individuals that change.
+    default void replaceInPlace(RankedPopulation population, List<Chromosome> offspring) {
+        List<Chromosome> nextGeneration = replace(population, offspring);
+        population.clear();
+        population.addAll(nextGeneration);
+    }
 }
-
@@ -1,6 +1,7 @@
 package GeneticAlgorithm.Replacement;
 
 import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Population.RankedPopulation;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -8,33 +9,34 @@ import java.util.List;
 public class SteadyStateReplacement implements ReplacementStrategy {
     
     private final int k;
+    private final boolean eliminateDuplicates;
     private List<Integer> parentIndices;
     
     public SteadyStateReplacement(int k) {
+        this(k, false);
+    }
+    
+    public SteadyStateReplacement(int k, boolean eliminateDuplicates) {
         if (k < 1) {
             throw new IllegalArgumentException("K must be at least 1");
         }
         this.k = k;
+        this.eliminateDuplicates = eliminateDuplicates;
         this.parentIndices = new ArrayList<>();
     }
     
+    // Positions of the individuals to replace. For replaceInPlace() these are ranks, 0 being the best;
+    // without them the k worst are replaced.
     public void setParentIndices(List<Integer> parentIndices) {
         this.parentIndices = new ArrayList<>(parentIndices);
     }
     
     @Override
     public List<Chromosome> replace(List<Chromosome> currentPopulation, List<Chromosome> offspring) {
-        if (currentPopulation == null || currentPopulation.isEmpty()) {
-            throw new IllegalArgumentException("Current population cannot be null or empty");
-        }
-        if (offspring == null || offspring.isEmpty()) {
-            throw new IllegalArgumentException("Offspring cannot be null or empty");
-        }
-        if (k > currentPopulation.size()) {
-            throw new IllegalArgumentException("K cannot be larger than population size");
-        }
-        if (offspring.size() < k) {
-            throw new IllegalArgumentException("Not enough offspring");
+        checkSizes(currentPopulation, offspring);
+        
+        if (eliminateDuplicates) {
+            offspring = DuplicateFilter.distinctFirst(offspring, currentPopulation);
         }
         
         List<Chromosome> nextGeneration = new ArrayList<>();
@@ -42,16 +44,7 @@ public class SteadyStateReplacement implements ReplacementStrategy {
             nextGeneration.add(c.clone());
         }
         
-        // Determine which parents to replace
-        List<Integer> indicesToReplace;
-        if (parentIndices != null && parentIndices.size() >= k) {
-            indicesToReplace = parentIndices.subList(0, k);
-        } else {
-            indicesToReplace = new ArrayList<>();
-            for (int i = 0; i < k; i++) {
-                indicesToReplace.add(i);
-            }
-        }
+        List<Integer> indicesToReplace = indicesToReplace(currentPopulation.size());
         
         // K offspring replace K parents
         for (int i = 0; i < k; i++) {
@@ -62,13 +55,76 @@ public class SteadyStateReplacement implements ReplacementStrategy {
         return nextGeneration;
     }
     
+    // Only the k replaced individuals leave and k offspring arrive, O(k log n) for small k. Indices are ranks
+    // in the population as it was before the call.
+    @Override
+    public void replaceInPlace(RankedPopulation population, List<Chromosome> offspring) {
+        checkSizes(population, offspring);
+        if (eliminateDuplicates) {
+            offspring = DuplicateFilter.distinctFirst(offspring, population);
+        }
+        boolean byDefault = !hasParentIndices();
+        Chromosome best = population.best();
+        List<Chromosome> replaced = new ArrayList<>(k);
+        for (int index : indicesToReplace(population.size())) {
+            replaced.add(population.get(index));
+        }
+        int removed = 0;
+        for (Chromosome c : replaced) {
+            if (population.remove(c)) {
+                removed++; // an index listed twice is only replaced once
+            }
+        }
+        List<Chromosome> arriving = new ArrayList<>(removed);
+        for (int i = 0; i < removed; i++) {
+            Chromosome child = offspring.get(i);
+            arriving.add(population.contains(child) ? child.clone() : child);
+        }
+        population.addAll(arriving);
+        // Replacing the worst ranks must never cost the population its best individual
+        if (byDefault && k < population.size() && !population.contains(best)) {
+            throw new IllegalStateException("Steady-state step replaced the best individual");
+        }
+    }
+    
+    private boolean hasParentIndices() {
+        return parentIndices != null && parentIndices.size() >= k;
+    }
+    
+    // Which parents to replace: the given indices, else the k worst ranks
+    private List<Integer> indicesToReplace(int size) {
+        if (hasParentIndices()) {
+            return parentIndices.subList(0, k);
+        }
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < k; i++) {
+            indices.add(size - 1 - i);
+        }
+        return indices;
+    }
+    
+    private void checkSizes(List<Chromosome> currentPopulation, List<Chromosome> offspring) {
+        if (currentPopulation == null || currentPopulation.isEmpty()) {
+            throw new IllegalArgumentException("Current population cannot be null or empty");
+        }
+        if (offspring == null || offspring.isEmpty()) {
+            throw new IllegalArgumentException("Offspring cannot be null or empty");
+        }
+        if (k > currentPopulation.size()) {
+            throw new IllegalArgumentException("K cannot be larger than population size");
+        }
+        if (offspring.size() < k) {
+            throw new IllegalArgumentException("Not enough offspring");
+        }
+    }
+    
     public int getK() {
         return k;
     }
     
     @Override
     public String toString() {
-        return "SteadyStateReplacement{k=" + k + "}";
+        return "SteadyStateReplacement{k=" + k + (eliminateDuplicates ? ", distinct" : "") + "}";
     }
 }
 
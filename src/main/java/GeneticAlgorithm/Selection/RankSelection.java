@@ -0,0 +1,82 @@
+package GeneticAlgorithm.Selection;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Helpers.RandomSource;
+import GeneticAlgorithm.Population.RankedPopulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+// Linear ranking selection: the best individual is picked with weight `pressure`, the worst with
+// 2 - pressure, linearly in between. The rank is drawn in O(1) by inverting the CDF, so on a
+// RankedPopulation one selection costs O(log n). Other lists are ranked once per call.
+public class RankSelection implements Selection {
+
+    private final double pressure;
+
+    public RankSelection() {
+        this(1.5);
+    }
+
+    public RankSelection(double pressure) {
+        if (pressure < 1.0 || pressure > 2.0) {
+            throw new IllegalArgumentException("Selection pressure must be between 1.0 and 2.0");
+        }
+        this.pressure = pressure;
+    }
+
+    @Override
+    public Chromosome select(List<Chromosome> population) {
+        validatePopulation(population);
+        RankedPopulation ranked = ranked(population);
+        return ranked.get(sampleRank(ranked.size(), RandomSource.get()));
+    }
+
+    @Override
+    public List<Chromosome> selectMultiple(List<Chromosome> population, int count) {
+        validatePopulation(population);
+        if (count < 1) {
+            throw new IllegalArgumentException("Count must be at least 1");
+        }
+        RankedPopulation ranked = ranked(population);
+        RandomGenerator rand = RandomSource.get();
+        List<Chromosome> selected = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            selected.add(ranked.get(sampleRank(ranked.size(), rand)).clone());
+        }
+        return selected;
+    }
+
+    // Density over x = rank / n is pressure - 2 (pressure - 1) x; solve CDF(x) = u for x
+    private int sampleRank(int n, RandomGenerator rand) {
+        double u = rand.nextDouble();
+        double x;
+        if (pressure == 1.0) {
+            x = u;
+        } else {
+            double a = pressure - 1.0;
+            x = (pressure - Math.sqrt(pressure * pressure - 4.0 * a * u)) / (2.0 * a);
+        }
+        return Math.min(n - 1, (int) (x * n));
+    }
+
+    private static RankedPopulation ranked(List<Chromosome> population) {
+        return population instanceof RankedPopulation ? (RankedPopulation) population : new RankedPopulation(population);
+    }
+
+    private void validatePopulation(List<Chromosome> population) {
+        if (population == null || population.isEmpty()) {
+            throw new IllegalArgumentException("Population cannot be null or empty");
+        }
+    }
+
+    public double getPressure() {
+        return pressure;
+    }
+
+    @Override
+    public String toString() {
+        return "RankSelection{pressure=" + pressure + "}";
+    }
+}
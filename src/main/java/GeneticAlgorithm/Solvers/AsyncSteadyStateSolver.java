@@ -0,0 +1,289 @@
+package GeneticAlgorithm.Solvers;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Crossover.Crossover;
+import GeneticAlgorithm.Fitness.FitnessEvaluator;
+import GeneticAlgorithm.Helpers.RandomSource;
+import GeneticAlgorithm.Mutation.Mutation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+// Steady-state GA without generations. Every worker thread loops on its own: tournament-select two
+// parents from the shared population, breed, mutate, evaluate, and insert the child over the worst
+// member. The population is an array of atomic slots; insertion is a compare-and-set on the worst slot
+// seen by the scan, retried if another worker changed that slot first. A slow evaluation only holds
+// up its own worker, never the others.
+public class AsyncSteadyStateSolver implements Solver {
+
+    private static final int MAX_INSERT_ATTEMPTS = 8;
+
+    private final String name;
+    private final List<Chromosome> initialPopulation;
+    private final Supplier<Crossover> crossoverFactory;
+    private final long maxEvaluations;
+    private int workers = Runtime.getRuntime().availableProcessors();
+    private int tournamentSize = 3;
+    private double crossoverRate = 0.9;
+    private double mutationRate = 0.05;
+    private Mutation mutation; // null: the chromosome's own mutateMethod1
+    private Duration timeLimit;
+
+    private volatile AtomicReferenceArray<Member> population;
+    private final AtomicLong births = new AtomicLong();
+    private final LongAdder insertions = new LongAdder();
+    private final LongAdder casRetries = new LongAdder();
+
+    // Each worker gets its own crossover from the factory, so crossovers with scratch state are safe
+    public AsyncSteadyStateSolver(String name, List<Chromosome> initialPopulation,
+                                  Supplier<Crossover> crossoverFactory, long maxEvaluations) {
+        if (initialPopulation == null || initialPopulation.size() < 2) {
+            throw new IllegalArgumentException("Population must have at least 2 individuals");
+        }
+        if (crossoverFactory == null) {
+            throw new IllegalArgumentException("Crossover factory cannot be null");
+        }
+        if (maxEvaluations < 1) {
+            throw new IllegalArgumentException("Evaluation budget must be at least 1");
+        }
+        this.name = name;
+        this.initialPopulation = new ArrayList<>(initialPopulation);
+        this.crossoverFactory = crossoverFactory;
+        this.maxEvaluations = maxEvaluations;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Chromosome solve(Incumbent incumbent, StopToken stop) {
+        FitnessEvaluator evaluator = FitnessEvaluator.getInstance();
+        int size = initialPopulation.size();
+        if (tournamentSize > size) {
+            throw new IllegalStateException("Tournament size (" + tournamentSize +
+                    ") cannot be larger than population size (" + size + ")");
+        }
+        AtomicReferenceArray<Member> slots = new AtomicReferenceArray<>(size);
+        for (int i = 0; i < size; i++) {
+            Member member = new Member(initialPopulation.get(i).clone());
+            slots.set(i, member);
+            incumbent.offer(name, member.chromosome);
+        }
+        population = slots;
+        births.set(0);
+        // Tripped by the caller's token or by a worker failure; a failure must not trip the caller's
+        StopToken halt = new StopToken();
+        long deadline = timeLimit == null ? Long.MAX_VALUE : System.nanoTime() + timeLimit.toNanos();
+
+        List<Thread> threads = new ArrayList<>(workers);
+        List<Throwable> failures = new ArrayList<>();
+        // A stop tripped before solve() started is kept in the token: no worker is started at all
+        int started = stop.isStopRequested() ? 0 : workers;
+        for (int w = 0; w < started; w++) {
+            Thread thread = new Thread(() -> {
+                // Chromosomes bind their evaluator when created, so workers must see the caller's
+                FitnessEvaluator.setThreadOverride(evaluator);
+                try {
+                    work(slots, incumbent, deadline, stop, halt);
+                } catch (RuntimeException | Error e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                    halt.requestStop();
+                } finally {
+                    FitnessEvaluator.setThreadOverride(null);
+                }
+            }, name + "-worker-" + w);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                halt.requestStop();
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("Worker failed", failures.get(0));
+        }
+
+        Chromosome best = best(slots).chromosome;
+        incumbent.offer(name, best);
+        return best;
+    }
+
+    private void work(AtomicReferenceArray<Member> slots, Incumbent incumbent, long deadline,
+                      StopToken stop, StopToken halt) {
+        RandomGenerator rng = RandomSource.get();
+        Crossover crossover = crossoverFactory.get();
+        while (!stop.isStopRequested() && !halt.isStopRequested() && System.nanoTime() < deadline) {
+            Chromosome first = select(slots, rng).chromosome;
+            Chromosome second = select(slots, rng).chromosome;
+            List<Chromosome> children = crossover.crossover(first, second, crossoverRate);
+            for (Chromosome child : children) {
+                if (births.getAndIncrement() >= maxEvaluations) {
+                    return;
+                }
+                if (mutation != null) {
+                    mutation.mutate(child, mutationRate, 0, 1);
+                } else {
+                    child.mutateMethod1(mutationRate);
+                }
+                Member candidate = new Member(child);
+                if (insert(slots, candidate)) {
+                    incumbent.offer(name, child);
+                }
+            }
+        }
+    }
+
+    // Members are immutable once published, so a reader never sees a half-updated slot
+    private Member select(AtomicReferenceArray<Member> slots, RandomGenerator rng) {
+        Member winner = slots.get(rng.nextInt(slots.length()));
+        for (int i = 1; i < tournamentSize; i++) {
+            Member challenger = slots.get(rng.nextInt(slots.length()));
+            if (challenger.beats(winner)) {
+                winner = challenger;
+            }
+        }
+        return winner;
+    }
+
+    // Replaces the worst member if the candidate beats it and is not already in the population
+    private boolean insert(AtomicReferenceArray<Member> slots, Member candidate) {
+        for (int attempt = 0; attempt < MAX_INSERT_ATTEMPTS; attempt++) {
+            int worstIndex = -1;
+            Member worst = null;
+            for (int i = 0; i < slots.length(); i++) {
+                Member member = slots.get(i);
+                if (member.sameTourAs(candidate)) {
+                    return false;
+                }
+                if (worst == null || worst.beats(member)) {
+                    worst = member;
+                    worstIndex = i;
+                }
+            }
+            if (!candidate.beats(worst)) {
+                return false;
+            }
+            if (slots.compareAndSet(worstIndex, worst, candidate)) {
+                insertions.increment();
+                return true;
+            }
+            casRetries.increment();
+        }
+        return false;
+    }
+
+    private static Member best(AtomicReferenceArray<Member> slots) {
+        Member best = slots.get(0);
+        for (int i = 1; i < slots.length(); i++) {
+            if (slots.get(i).beats(best)) {
+                best = slots.get(i);
+            }
+        }
+        return best;
+    }
+
+    // Copy of the current population, safe to call while the workers run
+    public List<Chromosome> getPopulation() {
+        AtomicReferenceArray<Member> slots = population;
+        List<Chromosome> snapshot = new ArrayList<>();
+        if (slots != null) {
+            for (int i = 0; i < slots.length(); i++) {
+                snapshot.add(slots.get(i).chromosome.clone());
+            }
+        }
+        return snapshot;
+    }
+
+    public void setWorkers(int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Workers must be at least 1");
+        }
+        this.workers = workers;
+    }
+
+    public void setTournamentSize(int tournamentSize) {
+        if (tournamentSize < 1) {
+            throw new IllegalArgumentException("Tournament size must be at least 1");
+        }
+        this.tournamentSize = tournamentSize;
+    }
+
+    public void setCrossoverRate(double crossoverRate) {
+        if (crossoverRate < 0.0 || crossoverRate > 1.0) {
+            throw new IllegalArgumentException("Crossover rate must be between 0.0 and 1.0");
+        }
+        this.crossoverRate = crossoverRate;
+    }
+
+    public void setMutationRate(double mutationRate) {
+        if (mutationRate < 0.0 || mutationRate > 1.0) {
+            throw new IllegalArgumentException("Mutation rate must be between 0.0 and 1.0");
+        }
+        this.mutationRate = mutationRate;
+    }
+
+    // Shared by all workers, so it must be stateless or thread-safe; null restores mutateMethod1
+    public void setMutation(Mutation mutation) {
+        this.mutation = mutation;
+    }
+
+    // Stops the workers after this long even if evaluations remain; null means no limit
+    public void setTimeLimit(Duration timeLimit) {
+        if (timeLimit != null && (timeLimit.isNegative() || timeLimit.isZero())) {
+            throw new IllegalArgumentException("Time limit must be positive");
+        }
+        this.timeLimit = timeLimit;
+    }
+
+    // Children bred so far in the current or last solve()
+    public long getEvaluations() {
+        return Math.min(births.get(), maxEvaluations);
+    }
+
+    public long getInsertions() {
+        return insertions.sum();
+    }
+
+    // Insertions that lost the compare-and-set to another worker and rescanned
+    public long getCasRetries() {
+        return casRetries.sum();
+    }
+
+    // A chromosome with its score computed up front, so readers never trigger a lazy evaluation
+    private static final class Member {
+        private final Chromosome chromosome;
+        private final int fitness;
+        private final int routeTime;
+        private final long hash;
+
+        private Member(Chromosome chromosome) {
+            this.chromosome = chromosome;
+            this.fitness = chromosome.getFitness();
+            this.routeTime = chromosome.getTotalRouteTime();
+            this.hash = chromosome.sequenceHash();
+        }
+
+        private boolean beats(Member other) {
+            return fitness > other.fitness || (fitness == other.fitness && routeTime < other.routeTime);
+        }
+
+        private boolean sameTourAs(Member other) {
+            return hash == other.hash && routeTime == other.routeTime &&
+                    chromosome.getDeliverySequence().equals(other.chromosome.getDeliverySequence());
+        }
+    }
+}
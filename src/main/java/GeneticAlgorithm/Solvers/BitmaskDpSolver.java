@@ -0,0 +1,249 @@
+package GeneticAlgorithm.Solvers;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Chromosomes.SequenceEncoder;
+import GeneticAlgorithm.Fitness.FitnessEvaluator;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+// Exact Held-Karp dynamic program over FitnessEvaluator's objective, for small stop sets.
+// The on-time stops are a prefix of the tour, so the best tour is, over every prefix set S ending at j
+// that arrives within the time constraint: the fastest path covering S and ending at j, followed by
+// the fastest path from j covering the rest. Two tables of n * 2^n ints hold both halves:
+//   prefix[S][j] = fastest path over S ending at j
+//   suffix[R][j] = fastest path from j over R (j not in R)
+// Each table is filled one subset-size layer at a time; the subsets of a layer are independent and
+// are processed in parallel.
+public class BitmaskDpSolver implements Solver {
+
+    public static final int MAX_STOPS = 18;
+    private static final int INF = Integer.MAX_VALUE / 2;
+    private static final int PARALLEL_LAYER_SIZE = 256;
+
+    private final String name;
+
+    public BitmaskDpSolver() {
+        this("Exact DP");
+    }
+
+    public BitmaskDpSolver(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    // Solves the stops 1..n currently loaded into FitnessEvaluator. The DP is at most n^2 * 2^n steps
+    // for n <= MAX_STOPS, so it always runs to completion and ignores `stop`.
+    @Override
+    public Chromosome solve(Incumbent incumbent, StopToken stop) {
+        FitnessEvaluator evaluator = FitnessEvaluator.getInstance();
+        // Same condition as GeneticAlgorithm.run(): the DP optimises one tour over static travel times
+        if (!evaluator.isSingleStaticTour()) {
+            throw new IllegalStateException("Exact DP needs a single tour over static travel times");
+        }
+        int n = evaluator.getStopCount();
+        int[] nodes = new int[n];
+        for (int i = 0; i < n; i++) {
+            nodes[i] = i + 1;
+        }
+        Chromosome best = SequenceEncoder.toInteger(solve(evaluator, nodes), n);
+        incumbent.offer(name, best);
+        return best;
+    }
+
+    // Optimal visiting order of `nodes`: most on-time deliveries first, then shortest route
+    public static int[] solve(FitnessEvaluator evaluator, int[] nodes) {
+        int n = nodes.length;
+        if (n > MAX_STOPS) {
+            throw new IllegalArgumentException("Exact DP supports at most " + MAX_STOPS + " stops, got " + n);
+        }
+        if (n <= 1) {
+            return nodes.clone();
+        }
+
+        int[] d = new int[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                d[i * n + j] = i == j ? 0 : evaluator.getDistance(nodes[i], nodes[j]);
+            }
+        }
+        int[][] layers = layersBySize(n);
+        int[] prefix = prefixTable(d, n, layers);
+        int[] suffix = suffixTable(d, n, layers);
+
+        int full = (1 << n) - 1;
+        int limit = evaluator.getTimeConstraint();
+        int bestMask = full;
+        int bestEnd = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        int bestRoute = Integer.MAX_VALUE;
+        for (int mask = 1; mask <= full; mask++) {
+            int onTime = Integer.bitCount(mask);
+            for (int j = 0; j < n; j++) {
+                int arrival = prefix[mask * n + j];
+                if ((mask & (1 << j)) == 0 || arrival > limit) {
+                    continue;
+                }
+                int route = arrival + suffix[(full ^ mask) * n + j];
+                double score = evaluator.score(onTime, route);
+                if (score > bestScore || (score == bestScore && route < bestRoute)) {
+                    bestScore = score;
+                    bestRoute = route;
+                    bestMask = mask;
+                    bestEnd = j;
+                }
+            }
+        }
+        if (bestScore == Double.NEGATIVE_INFINITY) {
+            // Not even the first leg fits the constraint: only the first stop is on time, so minimise the route
+            for (int j = 0; j < n; j++) {
+                int route = suffix[(full ^ (1 << j)) * n + j];
+                if (route < bestRoute) {
+                    bestRoute = route;
+                    bestMask = 1 << j;
+                    bestEnd = j;
+                }
+            }
+        }
+
+        int[] order = reconstruct(d, n, prefix, suffix, bestMask, bestEnd);
+        int[] tour = new int[n];
+        for (int i = 0; i < n; i++) {
+            tour[i] = nodes[order[i]];
+        }
+        return tour;
+    }
+
+    private static int[][] layersBySize(int n) {
+        int[] counts = new int[n + 1];
+        for (int mask = 0; mask < 1 << n; mask++) {
+            counts[Integer.bitCount(mask)]++;
+        }
+        int[][] layers = new int[n + 1][];
+        for (int size = 0; size <= n; size++) {
+            layers[size] = new int[counts[size]];
+        }
+        int[] filled = new int[n + 1];
+        for (int mask = 0; mask < 1 << n; mask++) {
+            int size = Integer.bitCount(mask);
+            layers[size][filled[size]++] = mask;
+        }
+        return layers;
+    }
+
+    private static IntStream layerIndices(int[] layer) {
+        IntStream indices = IntStream.range(0, layer.length);
+        return layer.length >= PARALLEL_LAYER_SIZE ? indices.parallel() : indices;
+    }
+
+    private static int[] prefixTable(int[] d, int n, int[][] layers) {
+        int[] prefix = new int[n << n];
+        Arrays.fill(prefix, INF);
+        for (int j = 0; j < n; j++) {
+            prefix[(1 << j) * n + j] = 0;
+        }
+        for (int size = 2; size <= n; size++) {
+            int[] layer = layers[size];
+            layerIndices(layer).forEach(idx -> {
+                int mask = layer[idx];
+                for (int j = 0; j < n; j++) {
+                    if ((mask & (1 << j)) == 0) {
+                        continue;
+                    }
+                    int rest = (mask ^ (1 << j)) * n;
+                    int best = INF;
+                    for (int i = 0; i < n; i++) {
+                        int cost = prefix[rest + i];
+                        if (cost < INF && cost + d[i * n + j] < best) {
+                            best = cost + d[i * n + j];
+                        }
+                    }
+                    prefix[mask * n + j] = best;
+                }
+            });
+        }
+        return prefix;
+    }
+
+    private static int[] suffixTable(int[] d, int n, int[][] layers) {
+        int[] suffix = new int[n << n];
+        Arrays.fill(suffix, INF);
+        for (int j = 0; j < n; j++) {
+            suffix[j] = 0;
+        }
+        for (int size = 1; size < n; size++) {
+            int[] layer = layers[size];
+            layerIndices(layer).forEach(idx -> {
+                int mask = layer[idx];
+                for (int j = 0; j < n; j++) {
+                    if ((mask & (1 << j)) != 0) {
+                        continue;
+                    }
+                    int best = INF;
+                    for (int r = 0; r < n; r++) {
+                        if ((mask & (1 << r)) == 0) {
+                            continue;
+                        }
+                        int cost = suffix[(mask ^ (1 << r)) * n + r];
+                        if (cost < INF && d[j * n + r] + cost < best) {
+                            best = d[j * n + r] + cost;
+                        }
+                    }
+                    suffix[mask * n + j] = best;
+                }
+            });
+        }
+        return suffix;
+    }
+
+    // Walks both tables back from the chosen prefix set and its last stop
+    private static int[] reconstruct(int[] d, int n, int[] prefix, int[] suffix, int mask, int end) {
+        int[] order = new int[n];
+        int prefixSize = Integer.bitCount(mask);
+        int current = end;
+        for (int pos = prefixSize - 1; pos >= 0; pos--) {
+            order[pos] = current;
+            int rest = mask ^ (1 << current);
+            if (rest == 0) {
+                break;
+            }
+            int target = prefix[mask * n + current];
+            int previous = -1;
+            for (int i = 0; i < n && previous == -1; i++) {
+                if ((rest & (1 << i)) != 0 && prefix[rest * n + i] + d[i * n + current] == target) {
+                    previous = i;
+                }
+            }
+            mask = rest;
+            current = previous;
+        }
+
+        int remaining = ((1 << n) - 1) ^ maskOf(order, prefixSize);
+        current = end;
+        for (int pos = prefixSize; pos < n; pos++) {
+            int target = suffix[remaining * n + current];
+            int next = -1;
+            for (int r = 0; r < n && next == -1; r++) {
+                if ((remaining & (1 << r)) != 0 && d[current * n + r] + suffix[(remaining ^ (1 << r)) * n + r] == target) {
+                    next = r;
+                }
+            }
+            order[pos] = next;
+            remaining ^= 1 << next;
+            current = next;
+        }
+        return order;
+    }
+
+    private static int maskOf(int[] order, int count) {
+        int mask = 0;
+        for (int i = 0; i < count; i++) {
+            mask |= 1 << order[i];
+        }
+        return mask;
+    }
+}
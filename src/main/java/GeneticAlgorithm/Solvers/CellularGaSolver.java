@@ -0,0 +1,253 @@
+package GeneticAlgorithm.Solvers;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Crossover.Crossover;
+import GeneticAlgorithm.Fitness.FitnessEvaluator;
+import GeneticAlgorithm.Helpers.RandomSource;
+import GeneticAlgorithm.Mutation.Mutation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+// Cellular GA: one individual per cell of a rows x cols torus, and a cell only mates within its
+// neighbourhood (the cell plus its 4 or 8 adjacent cells). Good tours spread slowly across the grid,
+// which keeps diversity high without restarts.
+//
+// The grid is cut into bands of rows, one per tile. Each tile keeps its band plus one halo row above
+// and below. A generation is two parallel passes over the tiles: copy the neighbouring tiles' edge
+// rows into the halos, then evolve every cell of the band from the halo-padded copy into a fresh band.
+// A tile never reads another tile's cells while evolving, so tiles do not share memory mid-pass.
+public class CellularGaSolver implements Solver {
+
+    public enum Neighbourhood { VON_NEUMANN, MOORE }
+
+    private final String name;
+    private final int rows;
+    private final int cols;
+    private final List<Chromosome> initialPopulation;
+    private final Supplier<Crossover> crossoverFactory;
+    private final int maxGenerations;
+    private Neighbourhood neighbourhood = Neighbourhood.VON_NEUMANN;
+    private int tileCount = Runtime.getRuntime().availableProcessors();
+    private double crossoverRate = 0.9;
+    private double mutationRate = 0.05;
+    private Mutation mutation; // null: the chromosome's own mutateMethod1
+    private int generationsRun = 0;
+
+    // initialPopulation fills the grid row by row and must have rows * cols individuals
+    public CellularGaSolver(String name, int rows, int cols, List<Chromosome> initialPopulation,
+                            Supplier<Crossover> crossoverFactory, int maxGenerations) {
+        if (rows < 3 || cols < 3) {
+            throw new IllegalArgumentException("Grid must be at least 3 x 3");
+        }
+        if (initialPopulation == null || initialPopulation.size() != rows * cols) {
+            throw new IllegalArgumentException("Population must have exactly " + rows * cols + " individuals");
+        }
+        if (crossoverFactory == null) {
+            throw new IllegalArgumentException("Crossover factory cannot be null");
+        }
+        if (maxGenerations < 1) {
+            throw new IllegalArgumentException("Generations must be at least 1");
+        }
+        this.name = name;
+        this.rows = rows;
+        this.cols = cols;
+        this.initialPopulation = new ArrayList<>(initialPopulation);
+        this.crossoverFactory = crossoverFactory;
+        this.maxGenerations = maxGenerations;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Chromosome solve(Incumbent incumbent, StopToken stop) {
+        FitnessEvaluator evaluator = FitnessEvaluator.getInstance();
+        Tile[] tiles = createTiles();
+        for (Tile tile : tiles) {
+            for (int r = 0; r < tile.height; r++) {
+                for (int c = 0; c < cols; c++) {
+                    Chromosome cell = initialPopulation.get((tile.firstRow + r) * cols + c).clone();
+                    tile.cells[(r + 1) * cols + c] = cell;
+                    // Seeded from the initial cells, so a stop before generation 0 still has a result
+                    if (tile.best == null || beats(cell, tile.best)) {
+                        tile.best = cell;
+                    }
+                    incumbent.offer(name, cell);
+                }
+            }
+        }
+
+        // A stop tripped before solve() started is kept in the token and ends the run before gen 0
+        generationsRun = 0;
+        for (int gen = 0; gen < maxGenerations && !stop.isStopRequested(); gen++) {
+            int generation = gen;
+            IntStream.range(0, tiles.length).parallel().forEach(t -> exchangeHalo(tiles, t));
+            IntStream.range(0, tiles.length).parallel().forEach(t -> {
+                // Chromosomes bind their evaluator when created, so pool threads must see the caller's
+                FitnessEvaluator.setThreadOverride(evaluator);
+                try {
+                    tiles[t].evolve(generation);
+                } finally {
+                    FitnessEvaluator.setThreadOverride(null);
+                }
+            });
+            generationsRun++;
+            for (Tile tile : tiles) {
+                incumbent.offer(name, tile.best);
+            }
+        }
+
+        Chromosome best = null;
+        for (Tile tile : tiles) {
+            if (best == null || beats(tile.best, best)) {
+                best = tile.best;
+            }
+        }
+        incumbent.offer(name, best);
+        return best;
+    }
+
+    private Tile[] createTiles() {
+        int count = Math.max(1, Math.min(tileCount, rows));
+        Tile[] tiles = new Tile[count];
+        int firstRow = 0;
+        for (int t = 0; t < count; t++) {
+            int height = rows / count + (t < rows % count ? 1 : 0);
+            tiles[t] = new Tile(firstRow, height);
+            firstRow += height;
+        }
+        return tiles;
+    }
+
+    // The halo above a tile is the last row of the tile before it on the torus, and vice versa
+    private void exchangeHalo(Tile[] tiles, int t) {
+        Tile tile = tiles[t];
+        Tile above = tiles[(t - 1 + tiles.length) % tiles.length];
+        Tile below = tiles[(t + 1) % tiles.length];
+        System.arraycopy(above.cells, above.height * cols, tile.cells, 0, cols);
+        System.arraycopy(below.cells, cols, tile.cells, (tile.height + 1) * cols, cols);
+    }
+
+    private static boolean beats(Chromosome a, Chromosome b) {
+        int fa = a.getFitness();
+        int fb = b.getFitness();
+        return fa > fb || (fa == fb && a.getTotalRouteTime() < b.getTotalRouteTime());
+    }
+
+    // A band of rows with one halo row above and below: cells[(r + 1) * cols + c] is band row r
+    private final class Tile {
+        private final int firstRow;
+        private final int height;
+        private Chromosome[] cells;
+        private Chromosome best;
+        private final Crossover crossover = crossoverFactory.get();
+
+        private Tile(int firstRow, int height) {
+            this.firstRow = firstRow;
+            this.height = height;
+            this.cells = new Chromosome[(height + 2) * cols];
+        }
+
+        private void evolve(int generation) {
+            RandomGenerator rng = RandomSource.get();
+            Chromosome[] next = new Chromosome[cells.length];
+            Chromosome tileBest = null;
+            for (int r = 1; r <= height; r++) {
+                for (int c = 0; c < cols; c++) {
+                    Chromosome current = cells[r * cols + c];
+                    Chromosome mate = selectMate(r, c, rng);
+                    Chromosome child = breed(current, mate, generation, rng);
+                    // Replace only if not worse, so a cell never loses quality
+                    Chromosome survivor = beats(current, child) ? current : child;
+                    next[r * cols + c] = survivor;
+                    if (tileBest == null || beats(survivor, tileBest)) {
+                        tileBest = survivor;
+                    }
+                }
+            }
+            cells = next;
+            best = tileBest;
+        }
+
+        // Binary tournament among the neighbours (the cell itself excluded)
+        private Chromosome selectMate(int r, int c, RandomGenerator rng) {
+            Chromosome first = neighbour(r, c, rng);
+            Chromosome second = neighbour(r, c, rng);
+            return beats(second, first) ? second : first;
+        }
+
+        private Chromosome neighbour(int r, int c, RandomGenerator rng) {
+            int dr;
+            int dc;
+            if (neighbourhood == Neighbourhood.VON_NEUMANN) {
+                int direction = rng.nextInt(4);
+                dr = direction == 0 ? -1 : direction == 1 ? 1 : 0;
+                dc = direction == 2 ? -1 : direction == 3 ? 1 : 0;
+            } else {
+                int offset = rng.nextInt(8);
+                offset += offset >= 4 ? 1 : 0; // skip the centre of the 3 x 3 block
+                dr = offset / 3 - 1;
+                dc = offset % 3 - 1;
+            }
+            return cells[(r + dr) * cols + Math.floorMod(c + dc, cols)];
+        }
+
+        private Chromosome breed(Chromosome current, Chromosome mate, int generation, RandomGenerator rng) {
+            List<Chromosome> children = crossover.crossover(current, mate, crossoverRate);
+            Chromosome child = children.get(rng.nextInt(children.size()));
+            if (child == current || child == mate) {
+                child = child.clone();
+            }
+            if (mutation != null) {
+                mutation.mutate(child, mutationRate, generation, maxGenerations);
+            } else {
+                child.mutateMethod1(mutationRate);
+            }
+            return child;
+        }
+    }
+
+    public void setNeighbourhood(Neighbourhood neighbourhood) {
+        if (neighbourhood == null) {
+            throw new IllegalArgumentException("Neighbourhood cannot be null");
+        }
+        this.neighbourhood = neighbourhood;
+    }
+
+    // Number of row bands processed in parallel; capped at the number of rows
+    public void setTileCount(int tileCount) {
+        if (tileCount < 1) {
+            throw new IllegalArgumentException("Tile count must be at least 1");
+        }
+        this.tileCount = tileCount;
+    }
+
+    public void setCrossoverRate(double crossoverRate) {
+        if (crossoverRate < 0.0 || crossoverRate > 1.0) {
+            throw new IllegalArgumentException("Crossover rate must be between 0.0 and 1.0");
+        }
+        this.crossoverRate = crossoverRate;
+    }
+
+    public void setMutationRate(double mutationRate) {
+        if (mutationRate < 0.0 || mutationRate > 1.0) {
+            throw new IllegalArgumentException("Mutation rate must be between 0.0 and 1.0");
+        }
+        this.mutationRate = mutationRate;
+    }
+
+    // Shared by all tiles, so it must be stateless or thread-safe; null restores mutateMethod1
+    public void setMutation(Mutation mutation) {
+        this.mutation = mutation;
+    }
+
+    public int getGenerationsRun() {
+        return generationsRun;
+    }
+}
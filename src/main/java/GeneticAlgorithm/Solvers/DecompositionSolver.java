@@ -0,0 +1,381 @@
+package GeneticAlgorithm.Solvers;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Chromosomes.SequenceEncoder;
+import GeneticAlgorithm.Crossover.EdgeAssemblyCrossover;
+import GeneticAlgorithm.Fitness.FitnessEvaluator;
+import GeneticAlgorithm.GeneticAlgorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+// Solves large instances by divide and conquer:
+//   1. k-medoids splits the stops into clusters of about clusterSize stops.
+//   2. Every cluster gets its own GeneticAlgorithm on its own sub-matrix, all clusters in parallel.
+//      Each worker thread overrides FitnessEvaluator.getInstance() with its sub-problem evaluator.
+//   3. The clusters are ordered by solving a path over one stop of each, and each cluster tour is
+//      run forwards or backwards, whichever joins its neighbours more cheaply.
+//   4. A windowed 2-opt repairs the tour around every junction between two clusters.
+// Sub-problems only minimise route time; the on-time count is a property of the whole tour.
+public class DecompositionSolver implements Solver {
+
+    // Large enough that every sub-tour is "on time", leaving route time as the only objective
+    private static final int SUB_TIME_CONSTRAINT = Integer.MAX_VALUE / 4;
+    private static final int MAX_REFINE_ROUNDS = 50;
+
+    private final String name;
+    private int clusterSize = 200;
+    private int windowSize = 20;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private Supplier<GeneticAlgorithm> engineFactory = DecompositionSolver::defaultEngine;
+
+    public DecompositionSolver() {
+        this("Decomposition");
+    }
+
+    public DecompositionSolver(String name) {
+        this.name = name;
+    }
+
+    private static GeneticAlgorithm defaultEngine() {
+        GeneticAlgorithm engine = new GeneticAlgorithm();
+        engine.setPopulationSize(30);
+        engine.setGenerations(100);
+        engine.setCrossoverRate(1.0);
+        engine.setCrossoverOperator(new EdgeAssemblyCrossover());
+        return engine;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    // Solves the stops 1..n currently loaded into FitnessEvaluator. A stop ends the running sub-GAs
+    // after their current generation; clusters not started yet keep their k-medoids order.
+    @Override
+    public Chromosome solve(Incumbent incumbent, StopToken stop) {
+        FitnessEvaluator evaluator = FitnessEvaluator.getInstance();
+        int[] tour = solveTour(evaluator, stop);
+        Chromosome result = SequenceEncoder.toInteger(tour, tour.length);
+        incumbent.offer(name, result);
+        return result;
+    }
+
+    public int[] solveTour(FitnessEvaluator evaluator) {
+        return solveTour(evaluator, new StopToken());
+    }
+
+    public int[] solveTour(FitnessEvaluator evaluator, StopToken stop) {
+        int n = evaluator.getStopCount();
+        int[] stops = new int[n];
+        for (int i = 0; i < n; i++) {
+            stops[i] = i + 1;
+        }
+        if (n == 0) {
+            return stops;
+        }
+
+        int k = (n + clusterSize - 1) / clusterSize;
+        List<int[]> clusters = k == 1 ? List.of(stops) : new KMedoidsClustering().cluster(evaluator, stops, k);
+        List<int[]> tours = solveClusters(evaluator, clusters, stop);
+        List<int[]> ordered = new ArrayList<>(tours.size());
+        for (int c : clusterOrder(evaluator, tours)) {
+            ordered.add(tours.get(c));
+        }
+        int[] tour = stitch(evaluator, ordered);
+        refineJunctions(evaluator, tour, ordered);
+        return tour;
+    }
+
+    // ==================== Sub-problems ====================
+
+    private List<int[]> solveClusters(FitnessEvaluator evaluator, List<int[]> clusters, StopToken stop) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, clusters.size()), runnable -> {
+            Thread thread = new Thread(runnable, "decomposition-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<int[]>> futures = new ArrayList<>();
+            for (int[] cluster : clusters) {
+                futures.add(executor.submit(() -> solveCluster(evaluator, cluster, stop)));
+            }
+            List<int[]> tours = new ArrayList<>(clusters.size());
+            for (Future<int[]> future : futures) {
+                tours.add(future.get());
+            }
+            return tours;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while solving clusters", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Cluster solve failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Runs on a worker thread. Sub-matrix index 0 is the depot and index i is cluster[i - 1].
+    private int[] solveCluster(FitnessEvaluator evaluator, int[] cluster, StopToken stop) {
+        int m = cluster.length;
+        if (m <= 2 || stop.isStopRequested()) {
+            return cluster.clone();
+        }
+        ArrayList<ArrayList<Integer>> matrix = new ArrayList<>(m + 1);
+        for (int i = 0; i <= m; i++) {
+            int from = i == 0 ? 0 : cluster[i - 1];
+            ArrayList<Integer> row = new ArrayList<>(m + 1);
+            for (int j = 0; j <= m; j++) {
+                row.add(evaluator.getDistance(from, j == 0 ? 0 : cluster[j - 1]));
+            }
+            matrix.add(row);
+        }
+        FitnessEvaluator subEvaluator = FitnessEvaluator.create(matrix, SUB_TIME_CONSTRAINT);
+
+        FitnessEvaluator.setThreadOverride(subEvaluator);
+        GeneticAlgorithm engine = engineFactory.get();
+        try {
+            engine.setFitnessFunction(subEvaluator);
+            engine.setChromosomeLength(m);
+            engine.setChromosomeType(GeneticAlgorithm.ChromosomeType.INTEGER);
+            engine.setVerbose(false);
+            engine.run(stop);
+
+            List<Integer> sequence = engine.getBestSolution().getDeliverySequence();
+            int[] tour = new int[m];
+            for (int i = 0; i < m; i++) {
+                tour[i] = cluster[sequence.get(i) - 1];
+            }
+            return tour;
+        } finally {
+            FitnessEvaluator.setThreadOverride(null);
+        }
+    }
+
+    // ==================== Stitching ====================
+
+    // Concatenates the cluster tours in the given order, each run forwards or backwards
+    private static int[] stitch(FitnessEvaluator evaluator, List<int[]> tours) {
+        int k = tours.size();
+
+        // Viterbi over orientations: cost[o] = cheapest chain so far ending with the cluster run in
+        // orientation o (0 = as solved, 1 = reversed), counting its internal legs
+        long[][] cost = new long[k][2];
+        int[][] from = new int[k][2];
+        for (int o = 0; o < 2; o++) {
+            cost[0][o] = internalCost(evaluator, tours.get(0), o == 1);
+        }
+        for (int p = 1; p < k; p++) {
+            int[] previous = tours.get(p - 1);
+            int[] current = tours.get(p);
+            for (int o = 0; o < 2; o++) {
+                long internal = internalCost(evaluator, current, o == 1);
+                int entry = o == 0 ? current[0] : current[current.length - 1];
+                cost[p][o] = Long.MAX_VALUE;
+                for (int q = 0; q < 2; q++) {
+                    int exit = q == 0 ? previous[previous.length - 1] : previous[0];
+                    long total = cost[p - 1][q] + evaluator.getDistance(exit, entry) + internal;
+                    if (total < cost[p][o]) {
+                        cost[p][o] = total;
+                        from[p][o] = q;
+                    }
+                }
+            }
+        }
+
+        int[] orientation = new int[k];
+        orientation[k - 1] = cost[k - 1][0] <= cost[k - 1][1] ? 0 : 1;
+        for (int p = k - 1; p > 0; p--) {
+            orientation[p - 1] = from[p][orientation[p]];
+        }
+
+        int total = 0;
+        for (int[] tour : tours) {
+            total += tour.length;
+        }
+        int[] stitched = new int[total];
+        int pos = 0;
+        for (int p = 0; p < k; p++) {
+            int[] tour = tours.get(p);
+            for (int i = 0; i < tour.length; i++) {
+                stitched[pos++] = orientation[p] == 0 ? tour[i] : tour[tour.length - 1 - i];
+            }
+        }
+        return stitched;
+    }
+
+    // Visiting order of the clusters: an open path over one representative stop per cluster (the middle
+    // of its tour). Exact for up to BitmaskDpSolver.MAX_STOPS clusters, otherwise nearest neighbour
+    // improved by 2-opt.
+    private static int[] clusterOrder(FitnessEvaluator evaluator, List<int[]> tours) {
+        int k = tours.size();
+        int[] representative = new int[k];
+        for (int c = 0; c < k; c++) {
+            int[] tour = tours.get(c);
+            representative[c] = tour[tour.length / 2];
+        }
+        if (k <= 2) {
+            return k == 1 ? new int[]{0} : new int[]{0, 1};
+        }
+
+        if (k <= BitmaskDpSolver.MAX_STOPS) {
+            ArrayList<ArrayList<Integer>> matrix = new ArrayList<>(k + 1);
+            for (int i = 0; i <= k; i++) {
+                ArrayList<Integer> row = new ArrayList<>(k + 1);
+                for (int j = 0; j <= k; j++) {
+                    row.add(i == 0 || j == 0 || i == j ? 0 : evaluator.getDistance(representative[i - 1], representative[j - 1]));
+                }
+                matrix.add(row);
+            }
+            int[] nodes = new int[k];
+            for (int c = 0; c < k; c++) {
+                nodes[c] = c + 1;
+            }
+            int[] path = BitmaskDpSolver.solve(FitnessEvaluator.create(matrix, SUB_TIME_CONSTRAINT), nodes);
+            for (int p = 0; p < k; p++) {
+                path[p]--;
+            }
+            return path;
+        }
+
+        long[] d = new long[k * k];
+        for (int i = 0; i < k; i++) {
+            for (int j = 0; j < k; j++) {
+                d[i * k + j] = i == j ? 0 : (long) evaluator.getDistance(representative[i], representative[j])
+                        + evaluator.getDistance(representative[j], representative[i]);
+            }
+        }
+        int[] order = new int[k];
+        boolean[] used = new boolean[k];
+        used[0] = true;
+        for (int p = 1; p < k; p++) {
+            int last = order[p - 1];
+            int next = -1;
+            for (int c = 0; c < k; c++) {
+                if (!used[c] && (next == -1 || d[last * k + c] < d[last * k + next])) {
+                    next = c;
+                }
+            }
+            order[p] = next;
+            used[next] = true;
+        }
+        // 2-opt on the symmetric distances of an open path
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int i = 0; i < k - 1; i++) {
+                for (int j = i + 1; j < k; j++) {
+                    long before = (i > 0 ? d[order[i - 1] * k + order[i]] : 0) + (j < k - 1 ? d[order[j] * k + order[j + 1]] : 0);
+                    long after = (i > 0 ? d[order[i - 1] * k + order[j]] : 0) + (j < k - 1 ? d[order[i] * k + order[j + 1]] : 0);
+                    if (after < before) {
+                        reverse(order, i, j);
+                        improved = true;
+                    }
+                }
+            }
+        }
+        return order;
+    }
+
+    private static long internalCost(FitnessEvaluator evaluator, int[] tour, boolean reversed) {
+        long cost = 0;
+        for (int i = 1; i < tour.length; i++) {
+            cost += reversed ? evaluator.getDistance(tour[i], tour[i - 1]) : evaluator.getDistance(tour[i - 1], tour[i]);
+        }
+        return cost;
+    }
+
+    // ==================== Junction repair ====================
+
+    // 2-opt restricted to windowSize stops either side of each junction. Overlapping or touching
+    // windows are merged, so the remaining windows never write a stop another one reads, and they
+    // are repaired in parallel.
+    private void refineJunctions(FitnessEvaluator evaluator, int[] tour, List<int[]> orderedTours) {
+        List<int[]> windows = new ArrayList<>();
+        int boundary = 0;
+        for (int c = 0; c < orderedTours.size() - 1; c++) {
+            boundary += orderedTours.get(c).length;
+            int lo = Math.max(0, boundary - windowSize);
+            int hi = Math.min(tour.length - 1, boundary + windowSize - 1);
+            if (!windows.isEmpty() && lo <= windows.get(windows.size() - 1)[1] + 1) {
+                windows.get(windows.size() - 1)[1] = hi;
+            } else {
+                windows.add(new int[]{lo, hi});
+            }
+        }
+        windows.parallelStream().forEach(window -> twoOpt(evaluator, tour, window[0], window[1]));
+    }
+
+    // Reverses tour[i..j] for lo <= i < j <= hi whenever that shortens the (directed) route
+    private static void twoOpt(FitnessEvaluator evaluator, int[] tour, int lo, int hi) {
+        boolean improved = true;
+        for (int round = 0; improved && round < MAX_REFINE_ROUNDS; round++) {
+            improved = false;
+            for (int i = lo; i < hi && !improved; i++) {
+                long inEdgeBefore = i > 0 ? evaluator.getDistance(tour[i - 1], tour[i]) : 0;
+                long forward = 0;
+                long backward = 0;
+                for (int j = i + 1; j <= hi; j++) {
+                    forward += evaluator.getDistance(tour[j - 1], tour[j]);
+                    backward += evaluator.getDistance(tour[j], tour[j - 1]);
+                    boolean hasNext = j + 1 < tour.length;
+                    long before = inEdgeBefore + forward + (hasNext ? evaluator.getDistance(tour[j], tour[j + 1]) : 0);
+                    long after = (i > 0 ? evaluator.getDistance(tour[i - 1], tour[j]) : 0) + backward
+                            + (hasNext ? evaluator.getDistance(tour[i], tour[j + 1]) : 0);
+                    if (after < before) {
+                        reverse(tour, i, j);
+                        improved = true;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private static void reverse(int[] array, int from, int to) {
+        while (from < to) {
+            int tmp = array[from];
+            array[from++] = array[to];
+            array[to--] = tmp;
+        }
+    }
+
+    // ==================== Configuration ====================
+
+    public void setClusterSize(int clusterSize) {
+        if (clusterSize < 2) {
+            throw new IllegalArgumentException("Cluster size must be at least 2");
+        }
+        this.clusterSize = clusterSize;
+    }
+
+    // Stops either side of a junction that the final 2-opt may rearrange
+    public void setWindowSize(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be at least 1");
+        }
+        this.windowSize = windowSize;
+    }
+
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    // Builds the engine for one cluster; fitness function, chromosome length and type are set by the
+    // solver. Must return a new engine with its own operators on every call.
+    public void setEngineFactory(Supplier<GeneticAlgorithm> engineFactory) {
+        if (engineFactory == null) {
+            throw new IllegalArgumentException("Engine factory cannot be null");
+        }
+        this.engineFactory = engineFactory;
+    }
+}
@@ -0,0 +1,59 @@
+package GeneticAlgorithm.Solvers;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.GeneticAlgorithm;
+import GeneticAlgorithm.Progress.ProgressEvent;
+import GeneticAlgorithm.Progress.ProgressListener;
+
+// Runs a configured GeneticAlgorithm as a portfolio member, publishing its best-so-far after
+// every generation that improved its fitness or route time
+public class GeneticAlgorithmSolver implements Solver {
+
+    private final String name;
+    private final GeneticAlgorithm engine;
+
+    public GeneticAlgorithmSolver(String name, GeneticAlgorithm engine) {
+        if (engine == null) {
+            throw new IllegalArgumentException("Engine cannot be null");
+        }
+        this.name = name;
+        this.engine = engine;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Chromosome solve(Incumbent incumbent, StopToken stop) {
+        ProgressListener publisher = new ProgressListener() {
+            private Chromosome published;
+
+            // The engine replaces its best solution whenever fitness or route time improves; the int
+            // best-so-far in the event misses route-time gains that the truncated fitness hides
+            @Override
+            public void onGeneration(ProgressEvent event) {
+                Chromosome best = engine.getBestSolution();
+                if (best != published) {
+                    published = best;
+                    incumbent.offer(name, best);
+                }
+            }
+        };
+
+        engine.addProgressListener(publisher);
+        try {
+            engine.run(stop);
+        } finally {
+            engine.removeProgressListener(publisher);
+        }
+        Chromosome best = engine.getBestSolution();
+        incumbent.offer(name, best);
+        return best;
+    }
+
+    public GeneticAlgorithm getEngine() {
+        return engine;
+    }
+}
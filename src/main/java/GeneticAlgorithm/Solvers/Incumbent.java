@@ -0,0 +1,93 @@
+package GeneticAlgorithm.Solvers;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+// Best solution found so far by any solver of a portfolio. Solvers offer their improvements from
+// their own threads; an offer only wins the compare-and-set if it beats the current entry, so the
+// incumbent never gets worse. Better = higher fitness, then shorter route.
+public class Incumbent {
+
+    private final AtomicReference<Entry> best = new AtomicReference<>();
+    private final long startNanos = System.nanoTime();
+    private volatile Consumer<Entry> improvementListener;
+
+    // Returns true if the solution became the new incumbent. The solution is cloned, so the
+    // caller may keep evolving it.
+    public boolean offer(String solver, Chromosome solution) {
+        int fitness = solution.getFitness();
+        int routeTime = solution.getTotalRouteTime();
+        Entry current = best.get();
+        if (current != null && !current.isBeatenBy(fitness, routeTime)) {
+            return false;
+        }
+
+        Entry candidate = new Entry(solver, solution.clone(), fitness, routeTime, System.nanoTime() - startNanos);
+        while (!best.compareAndSet(current, candidate)) {
+            current = best.get();
+            if (current != null && !current.isBeatenBy(fitness, routeTime)) {
+                return false;
+            }
+        }
+
+        Consumer<Entry> listener = improvementListener;
+        if (listener != null) {
+            listener.accept(candidate);
+        }
+        return true;
+    }
+
+    // Current best, or null before the first offer
+    public Entry get() {
+        return best.get();
+    }
+
+    // Called on the offering solver's thread after every improvement, so it must return quickly
+    public void setImprovementListener(Consumer<Entry> improvementListener) {
+        this.improvementListener = improvementListener;
+    }
+
+    // Immutable record of one incumbent. Do not mutate the returned solution.
+    public static class Entry {
+        private final String solver;
+        private final Chromosome solution;
+        private final int fitness;
+        private final int routeTime;
+        private final long elapsedNanos;
+
+        private Entry(String solver, Chromosome solution, int fitness, int routeTime, long elapsedNanos) {
+            this.solver = solver;
+            this.solution = solution;
+            this.fitness = fitness;
+            this.routeTime = routeTime;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        private boolean isBeatenBy(int otherFitness, int otherRouteTime) {
+            return otherFitness > fitness || (otherFitness == fitness && otherRouteTime < routeTime);
+        }
+
+        public String getSolver() {
+            return solver;
+        }
+
+        public Chromosome getSolution() {
+            return solution;
+        }
+
+        public int getFitness() {
+            return fitness;
+        }
+
+        public int getRouteTime() {
+            return routeTime;
+        }
+
+        // Time from the creation of the incumbent to this solution
+        public double getElapsedMillis() {
+            return elapsedNanos / 1_000_000.0;
+        }
+    }
+}
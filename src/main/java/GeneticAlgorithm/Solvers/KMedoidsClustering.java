@@ -0,0 +1,148 @@
+package GeneticAlgorithm.Solvers;
+
+import GeneticAlgorithm.Fitness.FitnessEvaluator;
+import GeneticAlgorithm.Helpers.RandomSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+// Groups stops around k medoids using only the distance matrix, so no coordinates are needed.
+// Seeding is k-means++ style. Each iteration assigns every stop to its nearest medoid (in parallel
+// over stops), then moves each medoid to the member closest to the rest of its cluster (in parallel
+// over clusters). The distance between two stops is d(a, b) + d(b, a).
+public class KMedoidsClustering {
+
+    private final int maxIterations;
+
+    public KMedoidsClustering() {
+        this(10);
+    }
+
+    public KMedoidsClustering(int maxIterations) {
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("Iterations must be at least 1");
+        }
+        this.maxIterations = maxIterations;
+    }
+
+    // Splits `stops` into at most k non-empty clusters
+    public List<int[]> cluster(FitnessEvaluator evaluator, int[] stops, int k) {
+        int n = stops.length;
+        if (k < 1) {
+            throw new IllegalArgumentException("Cluster count must be at least 1");
+        }
+        k = Math.min(k, n);
+        int[] medoids = seed(evaluator, stops, k);
+        int[] assignment = new int[n];
+
+        for (int iter = 0; iter < maxIterations; iter++) {
+            int[] current = medoids;
+            IntStream.range(0, n).parallel().forEach(i -> {
+                int best = 0;
+                long bestDistance = Long.MAX_VALUE;
+                for (int c = 0; c < current.length; c++) {
+                    long distance = distance(evaluator, stops[i], current[c]);
+                    if (distance < bestDistance) {
+                        bestDistance = distance;
+                        best = c;
+                    }
+                }
+                assignment[i] = best;
+            });
+
+            List<int[]> clusters = group(stops, assignment, k);
+            int[] updated = IntStream.range(0, k).parallel()
+                    .map(c -> clusters.get(c).length == 0 ? current[c] : centralMember(evaluator, clusters.get(c)))
+                    .toArray();
+            if (Arrays.equals(updated, medoids)) {
+                break;
+            }
+            medoids = updated;
+        }
+
+        List<int[]> result = new ArrayList<>();
+        for (int[] cluster : group(stops, assignment, k)) {
+            if (cluster.length > 0) {
+                result.add(cluster);
+            }
+        }
+        return result;
+    }
+
+    private static int[] seed(FitnessEvaluator evaluator, int[] stops, int k) {
+        RandomGenerator rng = RandomSource.get();
+        int n = stops.length;
+        int[] medoids = new int[k];
+        double[] nearest = new double[n];
+        Arrays.fill(nearest, Double.POSITIVE_INFINITY);
+        medoids[0] = stops[rng.nextInt(n)];
+
+        for (int c = 1; c < k; c++) {
+            int last = medoids[c - 1];
+            double total = 0.0;
+            for (int i = 0; i < n; i++) {
+                double distance = distance(evaluator, stops[i], last);
+                if (distance < nearest[i]) {
+                    nearest[i] = distance;
+                }
+                total += nearest[i] * nearest[i];
+            }
+            int chosen = rng.nextInt(n);
+            if (total > 0.0) {
+                double target = rng.nextDouble() * total;
+                for (int i = 0; i < n; i++) {
+                    target -= nearest[i] * nearest[i];
+                    if (target <= 0.0) {
+                        chosen = i;
+                        break;
+                    }
+                }
+            }
+            medoids[c] = stops[chosen];
+        }
+        return medoids;
+    }
+
+    private static int centralMember(FitnessEvaluator evaluator, int[] cluster) {
+        int best = cluster[0];
+        long bestTotal = Long.MAX_VALUE;
+        for (int candidate : cluster) {
+            long total = 0;
+            for (int other : cluster) {
+                total += distance(evaluator, candidate, other);
+                if (total >= bestTotal) {
+                    break;
+                }
+            }
+            if (total < bestTotal) {
+                bestTotal = total;
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    private static List<int[]> group(int[] stops, int[] assignment, int k) {
+        int[] sizes = new int[k];
+        for (int c : assignment) {
+            sizes[c]++;
+        }
+        List<int[]> clusters = new ArrayList<>(k);
+        for (int c = 0; c < k; c++) {
+            clusters.add(new int[sizes[c]]);
+        }
+        int[] filled = new int[k];
+        for (int i = 0; i < stops.length; i++) {
+            int c = assignment[i];
+            clusters.get(c)[filled[c]++] = stops[i];
+        }
+        return clusters;
+    }
+
+    private static long distance(FitnessEvaluator evaluator, int a, int b) {
+        return a == b ? 0 : (long) evaluator.getDistance(a, b) + evaluator.getDistance(b, a);
+    }
+}
@@ -0,0 +1,194 @@
+package GeneticAlgorithm.Solvers;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Races several solvers on the same instance, one thread each, sharing one Incumbent.
+// The portfolio stops when every member has finished, the incumbent reaches the target fitness,
+// or the deadline passes - whichever comes first. Stopped members finish their current step.
+public class PortfolioRunner {
+
+    private final List<Solver> members = new ArrayList<>();
+    private final List<MemberResult> results = new ArrayList<>();
+    private Duration deadline = Duration.ofSeconds(10);
+    private boolean hasTarget = false;
+    private int targetFitness;
+
+    private Incumbent incumbent;
+    private String stopReason;
+    private double elapsedMillis;
+
+    public void addSolver(Solver solver) {
+        if (solver == null) {
+            throw new IllegalArgumentException("Solver cannot be null");
+        }
+        members.add(solver);
+    }
+
+    public void setDeadline(Duration deadline) {
+        if (deadline == null || deadline.isNegative() || deadline.isZero()) {
+            throw new IllegalArgumentException("Deadline must be positive");
+        }
+        this.deadline = deadline;
+    }
+
+    public void setTargetFitness(int targetFitness) {
+        this.hasTarget = true;
+        this.targetFitness = targetFitness;
+    }
+
+    public void clearTargetFitness() {
+        this.hasTarget = false;
+    }
+
+    // Runs the portfolio and returns the winning entry (null if nobody produced a solution)
+    public Incumbent.Entry run() {
+        if (members.isEmpty()) {
+            throw new IllegalStateException("Add at least one solver before running the portfolio");
+        }
+
+        incumbent = new Incumbent();
+        results.clear();
+        // One token per run: stopping members that already finished cannot affect a later run
+        StopToken stop = new StopToken();
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger(members.size());
+        if (hasTarget) {
+            incumbent.setImprovementListener(entry -> {
+                if (entry.getFitness() >= targetFitness) {
+                    finished.countDown();
+                }
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(members.size(), runnable -> {
+            Thread thread = new Thread(runnable, "portfolio-member");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long startNanos = System.nanoTime();
+        List<Future<Chromosome>> futures = new ArrayList<>();
+        List<long[]> memberNanos = new ArrayList<>();
+        for (Solver member : members) {
+            long[] nanos = new long[1];
+            memberNanos.add(nanos);
+            futures.add(executor.submit(() -> {
+                long memberStart = System.nanoTime();
+                try {
+                    return member.solve(incumbent, stop);
+                } finally {
+                    nanos[0] = System.nanoTime() - memberStart;
+                    if (running.decrementAndGet() == 0) {
+                        finished.countDown();
+                    }
+                }
+            }));
+        }
+
+        try {
+            boolean early = finished.await(deadline.toNanos(), TimeUnit.NANOSECONDS);
+            if (!early) {
+                stopReason = "deadline of " + deadline.toMillis() + " ms";
+            } else if (running.get() == 0) {
+                stopReason = "all members finished";
+            } else {
+                stopReason = "target fitness " + targetFitness + " reached";
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopReason = "interrupted";
+        }
+        stop.requestStop();
+        executor.shutdown();
+
+        for (int i = 0; i < members.size(); i++) {
+            Solver member = members.get(i);
+            try {
+                Chromosome best = futures.get(i).get();
+                results.add(new MemberResult(member.getName(), best, memberNanos.get(i)[0], null));
+            } catch (ExecutionException e) {
+                results.add(new MemberResult(member.getName(), null, memberNanos.get(i)[0], e.getCause()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(new MemberResult(member.getName(), null, memberNanos.get(i)[0], e));
+            }
+        }
+        elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000.0;
+        return incumbent.get();
+    }
+
+    public Incumbent getIncumbent() {
+        return incumbent;
+    }
+
+    public List<MemberResult> getResults() {
+        return new ArrayList<>(results);
+    }
+
+    public void printReport() {
+        if (incumbent == null) {
+            System.out.println("\nPortfolio has not run yet");
+            return;
+        }
+        System.out.println("\nPortfolio (" + members.size() + " members) stopped after " +
+                String.format("%.1f", elapsedMillis) + " ms: " + stopReason);
+        System.out.println(String.format("  %-28s %9s %9s %10s", "Member", "Fitness", "Route", "Time ms"));
+        for (MemberResult result : results) {
+            if (result.getBest() == null) {
+                System.out.println(String.format("  %-28s failed: %s", result.getName(), result.getError()));
+            } else {
+                System.out.println(String.format("  %-28s %9d %9d %10.1f", result.getName(),
+                        result.getBest().getFitness(), result.getBest().getTotalRouteTime(), result.getElapsedMillis()));
+            }
+        }
+        Incumbent.Entry winner = incumbent.get();
+        if (winner == null) {
+            System.out.println("  No member produced a solution");
+        } else {
+            System.out.println("  Winner: " + winner.getSolver() + " (fitness " + winner.getFitness() +
+                    ", route time " + winner.getRouteTime() + ", found after " +
+                    String.format("%.1f", winner.getElapsedMillis()) + " ms)");
+        }
+    }
+
+    // Outcome of one member; best is null if it failed
+    public static class MemberResult {
+        private final String name;
+        private final Chromosome best;
+        private final long elapsedNanos;
+        private final Throwable error;
+
+        private MemberResult(String name, Chromosome best, long elapsedNanos, Throwable error) {
+            this.name = name;
+            this.best = best;
+            this.elapsedNanos = elapsedNanos;
+            this.error = error;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Chromosome getBest() {
+            return best;
+        }
+
+        public double getElapsedMillis() {
+            return elapsedNanos / 1_000_000.0;
+        }
+
+        public Throwable getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package GeneticAlgorithm.Solvers;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Chromosomes.IntegerChromosome;
+import GeneticAlgorithm.Fitness.FitnessEvaluator;
+import GeneticAlgorithm.Helpers.RandomSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+// Simulated annealing on a single tour (labels 1..n, like IntegerChromosome).
+// Moves are segment reversal and single-stop relocation. The temperature starts where about half of
+// the worsening moves are accepted and cools geometrically to finalTemperatureRatio of that over
+// `iterations` moves.
+public class SimulatedAnnealingSolver implements Solver {
+
+    private static final int SAMPLE_MOVES = 200;
+    private static final int CHECK_INTERVAL = 1024;
+
+    private final String name;
+    private final long iterations;
+    private final double finalTemperatureRatio;
+
+    public SimulatedAnnealingSolver(String name) {
+        this(name, 2_000_000L, 1e-3);
+    }
+
+    public SimulatedAnnealingSolver(String name, long iterations, double finalTemperatureRatio) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Iterations must be at least 1");
+        }
+        if (finalTemperatureRatio <= 0.0 || finalTemperatureRatio >= 1.0) {
+            throw new IllegalArgumentException("Final temperature ratio must be between 0.0 and 1.0 (exclusive)");
+        }
+        this.name = name;
+        this.iterations = iterations;
+        this.finalTemperatureRatio = finalTemperatureRatio;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Chromosome solve(Incumbent incumbent, StopToken stop) {
+        FitnessEvaluator evaluator = FitnessEvaluator.getInstance();
+        RandomGenerator rng = RandomSource.get();
+        int n = evaluator.getStopCount();
+        if (n < 1) {
+            throw new IllegalStateException("No stops to route");
+        }
+
+        int[] tour = new int[n];
+        for (int i = 0; i < n; i++) {
+            tour[i] = i + 1;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            int tmp = tour[i];
+            tour[i] = tour[j];
+            tour[j] = tmp;
+        }
+
+        double current = evaluator.evaluate(tour);
+        int[] best = tour.clone();
+        double bestScore = current;
+        boolean unpublished = true;
+
+        double startTemperature = startTemperature(evaluator, tour, current, rng);
+        double cooling = Math.log(finalTemperatureRatio) / iterations;
+        double temperature = startTemperature;
+
+        for (long iter = 0; iter < iterations && n > 1; iter++) {
+            if (iter % CHECK_INTERVAL == 0) {
+                if (stop.isStopRequested()) {
+                    break;
+                }
+                temperature = startTemperature * Math.exp(cooling * iter);
+                if (unpublished) {
+                    incumbent.offer(name, toChromosome(best));
+                    unpublished = false;
+                }
+            }
+
+            int i = rng.nextInt(n);
+            int j = rng.nextInt(n - 1);
+            if (j >= i) {
+                j++;
+            }
+            boolean reverse = rng.nextBoolean();
+            applyMove(tour, i, j, reverse);
+            double candidate = evaluator.evaluate(tour);
+
+            double delta = candidate - current;
+            if (delta >= 0.0 || rng.nextDouble() < Math.exp(delta / temperature)) {
+                current = candidate;
+                if (current > bestScore) {
+                    bestScore = current;
+                    System.arraycopy(tour, 0, best, 0, n);
+                    unpublished = true;
+                }
+            } else {
+                undoMove(tour, i, j, reverse);
+            }
+        }
+
+        Chromosome result = toChromosome(best);
+        incumbent.offer(name, result);
+        return result;
+    }
+
+    // Temperature at which a mean worsening move is accepted with probability 1/2
+    private static double startTemperature(FitnessEvaluator evaluator, int[] tour, double score, RandomGenerator rng) {
+        int n = tour.length;
+        if (n < 2) {
+            return 1.0;
+        }
+        double worsening = 0.0;
+        int count = 0;
+        for (int s = 0; s < SAMPLE_MOVES; s++) {
+            int i = rng.nextInt(n);
+            int j = rng.nextInt(n - 1);
+            if (j >= i) {
+                j++;
+            }
+            boolean reverse = rng.nextBoolean();
+            applyMove(tour, i, j, reverse);
+            double delta = evaluator.evaluate(tour) - score;
+            undoMove(tour, i, j, reverse);
+            if (delta < 0.0) {
+                worsening -= delta;
+                count++;
+            }
+        }
+        return count == 0 ? 1.0 : (worsening / count) / Math.log(2.0);
+    }
+
+    private static void applyMove(int[] tour, int i, int j, boolean reverse) {
+        if (reverse) {
+            reverse(tour, Math.min(i, j), Math.max(i, j));
+        } else {
+            relocate(tour, i, j);
+        }
+    }
+
+    private static void undoMove(int[] tour, int i, int j, boolean reverse) {
+        if (reverse) {
+            reverse(tour, Math.min(i, j), Math.max(i, j));
+        } else {
+            relocate(tour, j, i);
+        }
+    }
+
+    private static void reverse(int[] tour, int from, int to) {
+        while (from < to) {
+            int tmp = tour[from];
+            tour[from++] = tour[to];
+            tour[to--] = tmp;
+        }
+    }
+
+    // Moves the stop at `from` to index `to`, shifting the stops in between by one
+    private static void relocate(int[] tour, int from, int to) {
+        int stop = tour[from];
+        if (from < to) {
+            System.arraycopy(tour, from + 1, tour, from, to - from);
+        } else {
+            System.arraycopy(tour, to, tour, to + 1, from - to);
+        }
+        tour[to] = stop;
+    }
+
+    private static Chromosome toChromosome(int[] tour) {
+        List<Integer> genes = new ArrayList<>(tour.length);
+        for (int stop : tour) {
+            genes.add(stop);
+        }
+        return new IntegerChromosome(genes);
+    }
+}
@@ -0,0 +1,16 @@
+package GeneticAlgorithm.Solvers;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+
+// One search engine working on the instance loaded into FitnessEvaluator.
+// solve() runs on its own thread in a portfolio, so a solver must not share mutable operators
+// (crossovers, controllers, ...) with another member.
+public interface Solver {
+
+    String getName();
+
+    // Runs until the solver is done or `stop` is tripped, publishing improvements to the incumbent
+    // along the way. Returns the best solution this solver found. Once stopped, the solver finishes
+    // its current step and returns; a token that is already tripped makes it return right away.
+    Chromosome solve(Incumbent incumbent, StopToken stop);
+}
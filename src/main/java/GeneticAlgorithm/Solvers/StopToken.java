@@ -0,0 +1,18 @@
+package GeneticAlgorithm.Solvers;
+
+// Stop signal for one run. Whoever starts a run creates a token and passes it to solve(); stopping
+// trips that token only. A stop sent before the solver got going is therefore not lost, and a stop
+// sent after it finished cannot leak into its next run.
+public final class StopToken {
+
+    private volatile boolean stopRequested = false;
+
+    // Safe to call from any thread, any number of times
+    public void requestStop() {
+        stopRequested = true;
+    }
+
+    public boolean isStopRequested() {
+        return stopRequested;
+    }
+}
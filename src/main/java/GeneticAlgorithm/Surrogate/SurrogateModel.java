@@ -0,0 +1,188 @@
+package GeneticAlgorithm.Surrogate;
+
+import NeuralNetwork.Activations.Tanh;
+import NeuralNetwork.Core.NeuralNetwork;
+import NeuralNetwork.Layers.ActivationLayer;
+import NeuralNetwork.Layers.Dense;
+import NeuralNetwork.Loss.MSE;
+import NeuralNetwork.init.Xavier;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// One trained surrogate: a Dense-Tanh-Dense network over standardised TourFeatures, predicting the
+// standardised fitness. Every fifth sample is held out, and the Spearman rank correlation between
+// predicted and true fitness on those is the model's accuracy; ranking is all the screening needs.
+//
+// Not thread-safe: the layers keep their last input for backpropagation. A model is trained on one
+// thread and then only used for prediction by another.
+final class SurrogateModel {
+
+    private static final int HOLDOUT_EVERY = 5;
+
+    private final NeuralNetwork network;
+    private final double[] featureMean;
+    private final double[] featureScale;
+    private final double rankCorrelation;
+    private final int samples;
+
+    private SurrogateModel(NeuralNetwork network, double[] featureMean, double[] featureScale,
+                           double rankCorrelation, int samples) {
+        this.network = network;
+        this.featureMean = featureMean;
+        this.featureScale = featureScale;
+        this.rankCorrelation = rankCorrelation;
+        this.samples = samples;
+    }
+
+    static SurrogateModel train(double[][] features, double[] fitness, int hiddenUnits, int epochs,
+                                double learningRate, long seed) {
+        int n = features.length;
+        int width = features[0].length;
+        double[] featureMean = new double[width];
+        double[] featureScale = new double[width];
+        for (double[] row : features) {
+            for (int j = 0; j < width; j++) {
+                featureMean[j] += row[j] / n;
+            }
+        }
+        for (double[] row : features) {
+            for (int j = 0; j < width; j++) {
+                double d = row[j] - featureMean[j];
+                featureScale[j] += d * d / n;
+            }
+        }
+        for (int j = 0; j < width; j++) {
+            // Constant features (e.g. all on time) become 0 instead of NaN
+            featureScale[j] = featureScale[j] > 1e-12 ? Math.sqrt(featureScale[j]) : 1.0;
+        }
+        double targetMean = 0.0;
+        for (double y : fitness) {
+            targetMean += y / n;
+        }
+        double targetScale = 0.0;
+        for (double y : fitness) {
+            targetScale += (y - targetMean) * (y - targetMean) / n;
+        }
+        targetScale = targetScale > 1e-12 ? Math.sqrt(targetScale) : 1.0;
+
+        int holdout = n / HOLDOUT_EVERY;
+        int[] trainRows = new int[n - holdout];
+        int[] testRows = new int[holdout];
+        int trained = 0;
+        int tested = 0;
+        double[][] x = new double[n][];
+        double[][] y = new double[n][];
+        for (int i = 0; i < n; i++) {
+            x[i] = standardise(features[i], featureMean, featureScale);
+            y[i] = new double[]{(fitness[i] - targetMean) / targetScale};
+            if (i % HOLDOUT_EVERY == HOLDOUT_EVERY - 1) {
+                testRows[tested++] = i;
+            } else {
+                trainRows[trained++] = i;
+            }
+        }
+
+        NeuralNetwork network = new NeuralNetwork();
+        network.addLayer(new Dense(width, hiddenUnits, new Xavier()));
+        network.addLayer(new ActivationLayer(new Tanh()));
+        network.addLayer(new Dense(hiddenUnits, 1, new Xavier()));
+        // Plain per-sample SGD; NeuralNetwork.train() would also print every epoch
+        MSE loss = new MSE();
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int epoch = 0; epoch < epochs; epoch++) {
+            shuffle(trainRows, random);
+            for (int row : trainRows) {
+                double[] predicted = network.forward(x[row]);
+                network.backward(loss.backward(y[row], predicted));
+                network.update(learningRate);
+            }
+        }
+
+        double[] predicted = new double[holdout];
+        double[] actual = new double[holdout];
+        for (int i = 0; i < holdout; i++) {
+            predicted[i] = network.forward(x[testRows[i]])[0];
+            actual[i] = fitness[testRows[i]];
+        }
+        double correlation = holdout >= 3 ? spearman(predicted, actual) : 0.0;
+        return new SurrogateModel(network, featureMean, featureScale, correlation, n);
+    }
+
+    // Larger means fitter; only the order between predictions is meaningful
+    double predict(double[] features) {
+        return network.forward(standardise(features, featureMean, featureScale))[0];
+    }
+
+    // Spearman correlation on the held-out samples
+    double getRankCorrelation() {
+        return rankCorrelation;
+    }
+
+    int getSampleCount() {
+        return samples;
+    }
+
+    // Pearson correlation of the ranks, ties sharing their average rank; 0 if either side is constant
+    static double spearman(double[] a, double[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Got " + a.length + " and " + b.length + " values");
+        }
+        double[] ra = ranks(a);
+        double[] rb = ranks(b);
+        double mean = (a.length - 1) / 2.0;
+        double covariance = 0.0;
+        double varianceA = 0.0;
+        double varianceB = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            double da = ra[i] - mean;
+            double db = rb[i] - mean;
+            covariance += da * db;
+            varianceA += da * da;
+            varianceB += db * db;
+        }
+        if (varianceA == 0.0 || varianceB == 0.0) {
+            return 0.0;
+        }
+        return covariance / Math.sqrt(varianceA * varianceB);
+    }
+
+    private static double[] ranks(double[] values) {
+        int n = values.length;
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (i, j) -> Double.compare(values[i], values[j]));
+        double[] rank = new double[n];
+        for (int start = 0; start < n; ) {
+            int end = start + 1;
+            while (end < n && values[order[end]] == values[order[start]]) {
+                end++;
+            }
+            double average = (start + end - 1) / 2.0;
+            for (int k = start; k < end; k++) {
+                rank[order[k]] = average;
+            }
+            start = end;
+        }
+        return rank;
+    }
+
+    private static double[] standardise(double[] features, double[] mean, double[] scale) {
+        double[] result = new double[features.length];
+        for (int j = 0; j < features.length; j++) {
+            result[j] = (features[j] - mean[j]) / scale[j];
+        }
+        return result;
+    }
+
+    private static void shuffle(int[] values, SplittableRandom random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+}
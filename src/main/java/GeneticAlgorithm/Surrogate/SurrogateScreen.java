@@ -0,0 +1,294 @@
+package GeneticAlgorithm.Surrogate;
+
+import GeneticAlgorithm.Chromosomes.Chromosome;
+import GeneticAlgorithm.Fitness.FitnessEvaluator;
+import GeneticAlgorithm.Helpers.RandomSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.random.RandomGenerator;
+
+// Pre-screens offspring with a neural-network surrogate of the fitness, so only the most promising
+// share of each generation is truly evaluated.
+//
+// Every truly evaluated child becomes a (TourFeatures, fitness) sample in a bounded buffer. Once
+// there are enough, a SurrogateModel is trained on a snapshot of the buffer on a background thread
+// and picked up when ready; the engine never waits for it. Retraining repeats every retrainInterval
+// new samples. Screening only starts when the model's held-out rank correlation reaches
+// minRankCorrelation, so a poor model costs evaluations, never convergence.
+//
+// A tenth of the evaluated slots go to random rejected children, so the samples do not all come from
+// what the current model already likes. Samples are dropped when the evaluator or its matrix changes.
+//
+// Used from the engine's thread only.
+public class SurrogateScreen {
+
+    private final double evaluatedFraction;
+    private int warmUpSamples = 200;
+    private int retrainInterval = 100;
+    private int bufferSize = 2000;
+    private double minRankCorrelation = 0.5;
+    private int hiddenUnits = 16;
+    private int epochs = 30;
+    private double learningRate = 0.01;
+
+    private double[][] features = new double[0][];
+    private double[] fitness = new double[0];
+    private int sampleCount = 0;
+    private int nextSample = 0;
+    private int samplesSinceTraining = 0;
+    private FitnessEvaluator evaluator;
+    private long matrixVersion;
+
+    private SurrogateModel model;
+    private CompletableFuture<SurrogateModel> pendingModel;
+    private ExecutorService trainer;
+
+    private long candidates = 0;
+    private long evaluated = 0;
+    private int retrains = 0;
+    private double liveCorrelationSum = 0.0;
+    private int liveCorrelationCount = 0;
+
+    // evaluatedFraction: share of each screened generation that is truly evaluated
+    public SurrogateScreen(double evaluatedFraction) {
+        if (evaluatedFraction <= 0.0 || evaluatedFraction > 1.0) {
+            throw new IllegalArgumentException("Evaluated fraction must be in (0.0, 1.0]");
+        }
+        this.evaluatedFraction = evaluatedFraction;
+    }
+
+    // True when the current model ranks well enough to screen with. Picks up a finished background
+    // training; never waits for one.
+    public boolean isScreening(FitnessEvaluator evaluator) {
+        sync(evaluator);
+        pollTraining();
+        return model != null && model.getRankCorrelation() >= minRankCorrelation;
+    }
+
+    // Training samples from children that were evaluated without screening
+    public void record(List<Chromosome> chromosomes, FitnessEvaluator evaluator) {
+        sync(evaluator);
+        for (Chromosome c : chromosomes) {
+            addSample(TourFeatures.encode(evaluator, c.getDeliverySequence()), c.getFitness());
+        }
+        maybeRetrain();
+    }
+
+    // Evaluates and returns the candidates the model ranks highest (plus a few random others), best
+    // predicted first. The rest are never evaluated. Requires isScreening().
+    public List<Chromosome> screen(List<Chromosome> candidates, FitnessEvaluator evaluator) {
+        if (!isScreening(evaluator)) {
+            throw new IllegalStateException("Surrogate is not ready to screen");
+        }
+        int n = candidates.size();
+        int keep = Math.min(n, Math.max(1, (int) Math.ceil(evaluatedFraction * n)));
+        double[][] encoded = new double[n][];
+        double[] predicted = new double[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            encoded[i] = TourFeatures.encode(evaluator, candidates.get(i).getDeliverySequence());
+            predicted[i] = model.predict(encoded[i]);
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(predicted[b], predicted[a]));
+
+        // Swap a few random rejected candidates into the tail of the kept ones
+        int explore = Math.min(keep / 10, n - keep);
+        RandomGenerator rng = RandomSource.get();
+        for (int k = 0; k < explore; k++) {
+            int slot = keep - 1 - k;
+            int pick = keep + rng.nextInt(n - keep);
+            Integer swapped = order[slot];
+            order[slot] = order[pick];
+            order[pick] = swapped;
+        }
+
+        List<Chromosome> kept = new ArrayList<>(keep);
+        double[] keptPredicted = new double[keep];
+        double[] keptActual = new double[keep];
+        for (int k = 0; k < keep; k++) {
+            int i = order[k];
+            Chromosome child = candidates.get(i);
+            keptPredicted[k] = predicted[i];
+            keptActual[k] = child.getFitness();
+            addSample(encoded[i], keptActual[k]);
+            kept.add(child);
+        }
+        if (keep >= 3) {
+            liveCorrelationSum += SurrogateModel.spearman(keptPredicted, keptActual);
+            liveCorrelationCount++;
+        }
+        this.candidates += n;
+        this.evaluated += keep;
+        maybeRetrain();
+        return kept;
+    }
+
+    private void addSample(double[] sample, double value) {
+        if (nextSample == features.length) {
+            int capacity = Math.min(bufferSize, Math.max(64, features.length * 2));
+            features = Arrays.copyOf(features, capacity);
+            fitness = Arrays.copyOf(fitness, capacity);
+        }
+        features[nextSample] = sample;
+        fitness[nextSample] = value;
+        nextSample = (nextSample + 1) % bufferSize;
+        sampleCount = Math.min(sampleCount + 1, bufferSize);
+        samplesSinceTraining++;
+    }
+
+    private void maybeRetrain() {
+        if (pendingModel != null || sampleCount < warmUpSamples
+                || (model != null && samplesSinceTraining < retrainInterval)) {
+            return;
+        }
+        // Sample rows are never modified once stored, so copying the references is a snapshot
+        double[][] x = Arrays.copyOf(features, sampleCount);
+        double[] y = Arrays.copyOf(fitness, sampleCount);
+        int hidden = hiddenUnits;
+        int rounds = epochs;
+        double rate = learningRate;
+        long seed = RandomSource.get().nextLong();
+        samplesSinceTraining = 0;
+        pendingModel = CompletableFuture.supplyAsync(
+                () -> SurrogateModel.train(x, y, hidden, rounds, rate, seed), trainer());
+    }
+
+    private void pollTraining() {
+        if (pendingModel != null && pendingModel.isDone()) {
+            try {
+                model = pendingModel.join();
+                retrains++;
+            } catch (RuntimeException e) {
+                System.err.println("Surrogate training failed: " + e.getMessage());
+            }
+            pendingModel = null;
+        }
+    }
+
+    // Samples and models only hold for the matrix they were computed on
+    private void sync(FitnessEvaluator evaluator) {
+        if (evaluator == this.evaluator && evaluator.getMatrixVersion() == matrixVersion) {
+            return;
+        }
+        this.evaluator = evaluator;
+        this.matrixVersion = evaluator.getMatrixVersion();
+        Arrays.fill(features, null);
+        sampleCount = 0;
+        nextSample = 0;
+        samplesSinceTraining = 0;
+        model = null;
+        pendingModel = null; // a training still running is ignored
+    }
+
+    private ExecutorService trainer() {
+        if (trainer == null || trainer.isShutdown()) {
+            trainer = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "surrogate-trainer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return trainer;
+    }
+
+    // Stops the training thread; a later retraining starts a new one
+    public void shutdown() {
+        if (trainer != null) {
+            trainer.shutdownNow();
+            trainer = null;
+        }
+        pendingModel = null;
+    }
+
+    // ==================== Settings ====================
+
+    public void setWarmUpSamples(int warmUpSamples) {
+        if (warmUpSamples < 10) {
+            throw new IllegalArgumentException("Warm-up samples must be at least 10");
+        }
+        this.warmUpSamples = warmUpSamples;
+    }
+
+    public void setRetrainInterval(int retrainInterval) {
+        if (retrainInterval < 1) {
+            throw new IllegalArgumentException("Retrain interval must be at least 1");
+        }
+        this.retrainInterval = retrainInterval;
+    }
+
+    // Oldest samples are overwritten beyond this; takes effect on the next run
+    public void setBufferSize(int bufferSize) {
+        if (bufferSize < 10) {
+            throw new IllegalArgumentException("Buffer size must be at least 10");
+        }
+        this.bufferSize = bufferSize;
+        features = new double[0][];
+        fitness = new double[0];
+        evaluator = null;
+    }
+
+    public void setMinRankCorrelation(double minRankCorrelation) {
+        if (minRankCorrelation < -1.0 || minRankCorrelation > 1.0) {
+            throw new IllegalArgumentException("Rank correlation must be between -1.0 and 1.0");
+        }
+        this.minRankCorrelation = minRankCorrelation;
+    }
+
+    public void setNetwork(int hiddenUnits, int epochs, double learningRate) {
+        if (hiddenUnits < 1 || epochs < 1) {
+            throw new IllegalArgumentException("Hidden units and epochs must be at least 1");
+        }
+        if (learningRate <= 0.0) {
+            throw new IllegalArgumentException("Learning rate must be positive");
+        }
+        this.hiddenUnits = hiddenUnits;
+        this.epochs = epochs;
+        this.learningRate = learningRate;
+    }
+
+    // ==================== Statistics ====================
+
+    // Held-out Spearman correlation of the current model, NaN before the first one
+    public double getRankCorrelation() {
+        return model == null ? Double.NaN : model.getRankCorrelation();
+    }
+
+    // Mean Spearman correlation within the evaluated share of each screened generation, NaN if none.
+    // Lower than the held-out figure: it only ranks children the model already put near the top.
+    public double getLiveRankCorrelation() {
+        return liveCorrelationCount == 0 ? Double.NaN : liveCorrelationSum / liveCorrelationCount;
+    }
+
+    public long getScreenedCandidates() {
+        return candidates;
+    }
+
+    public long getEvaluatedCandidates() {
+        return evaluated;
+    }
+
+    public int getRetrainCount() {
+        return retrains;
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    public void printReport() {
+        System.out.println("\nSurrogate:");
+        System.out.println("  Models trained: " + retrains + ", samples: " + sampleCount);
+        System.out.println("  Rank correlation: held-out " + String.format("%.3f", getRankCorrelation()) +
+                ", live " + String.format("%.3f", getLiveRankCorrelation()));
+        if (candidates > 0) {
+            System.out.println("  Evaluated " + evaluated + " of " + candidates + " screened children (" +
+                    String.format("%.1f%%", 100.0 * evaluated / candidates) + ")");
+        }
+    }
+}
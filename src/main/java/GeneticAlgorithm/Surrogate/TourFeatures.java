@@ -0,0 +1,62 @@
+package GeneticAlgorithm.Surrogate;
+
+import GeneticAlgorithm.Fitness.FitnessEvaluator;
+
+import java.util.List;
+
+// Fixed-length description of a tour for the surrogate, whatever the number of stops. The tour is cut
+// into SEGMENTS runs of consecutive positions, and each run contributes its static travel time, the
+// share of its stops reached within the time constraint on static times, and its stops' mean distance
+// back to the depot. Two totals follow: static route time and the share of on-time stops.
+//
+// One pass over the static matrix, so it stays cheap when the true objective is not (time-dependent
+// travel times, route splitting). Times are divided by the time constraint.
+public final class TourFeatures {
+
+    public static final int SEGMENTS = 8;
+    public static final int SIZE = 3 * SEGMENTS + 2;
+
+    private TourFeatures() {
+    }
+
+    public static double[] encode(FitnessEvaluator evaluator, List<Integer> sequence) {
+        double[] features = new double[SIZE];
+        int n = sequence.size();
+        if (n == 0) {
+            return features;
+        }
+        int limit = evaluator.getTimeConstraint();
+        double scale = Math.max(1, limit);
+        int[] stops = new int[SEGMENTS];
+        long time = 0;
+        int onTime = 0;
+        int previous = -1;
+        for (int i = 0; i < n; i++) {
+            int stop = sequence.get(i);
+            int segment = (int) ((long) i * SEGMENTS / n);
+            if (i > 0) {
+                int leg = evaluator.getDistance(previous, stop);
+                time += leg;
+                features[3 * segment] += leg;
+            }
+            // Same convention as the evaluator: the first stop is served at time 0
+            if (time <= limit) {
+                features[3 * segment + 1]++;
+                onTime++;
+            }
+            features[3 * segment + 2] += evaluator.getDistance(stop, 0);
+            stops[segment]++;
+            previous = stop;
+        }
+        for (int s = 0; s < SEGMENTS; s++) {
+            features[3 * s] /= scale;
+            if (stops[s] > 0) {
+                features[3 * s + 1] /= stops[s];
+                features[3 * s + 2] /= stops[s] * scale;
+            }
+        }
+        features[3 * SEGMENTS] = time / scale;
+        features[3 * SEGMENTS + 1] = (double) onTime / n;
+        return features;
+    }
+}
@@ -0,0 +1,25 @@
+package NeuralNetwork.Layers;
+
+import NeuralNetwork.Activations.Activation;
+
+public class ActivationLayer implements Layer {
+    private final Activation activation;
+
+    public ActivationLayer(Activation activation) {
+        this.activation = activation;
+    }
+
+    @Override
+    public double[] forward(double[] input) {
+        return activation.forward(input);
+    }
+
+    @Override
+    public double[] backward(double[] gradOutput) {
+        return activation.backward(gradOutput);
+    }
+
+    @Override
+    public void update(double learningRate) {
+    }
+}